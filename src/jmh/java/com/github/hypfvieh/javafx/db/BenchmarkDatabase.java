@@ -0,0 +1,31 @@
+package com.github.hypfvieh.javafx.db;
+
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Sets up the in-memory H2 database used by the database benchmarks.
+ */
+final class BenchmarkDatabase {
+
+    /** Number of {@link BenchmarkEntity} rows created on setup. */
+    static final int ROWS = 1000;
+
+    private BenchmarkDatabase() {
+    }
+
+    /**
+     * Creates a fresh database (schema is created by hibernate) and fills it with {@link #ROWS} entities.
+     */
+    static void setup() {
+        DbManager.setHibernateXml("hibernate_benchmark.cfg.xml");
+        DbManager.newInstance();
+
+        DbManager.getQueryUtil().batchPersist(IntStream.range(0, ROWS).mapToObj(BenchmarkEntity::new).collect(Collectors.toList()));
+    }
+
+    static void tearDown() {
+        DbManager.closeAll();
+    }
+
+}
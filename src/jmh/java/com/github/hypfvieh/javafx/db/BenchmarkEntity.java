@@ -0,0 +1,87 @@
+package com.github.hypfvieh.javafx.db;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Entity used by database benchmarks.
+ * Sized like a typical master data record (some short columns, one larger text column).
+ */
+@Entity
+@Table(name = "BENCHMARK_ENTITY")
+public class BenchmarkEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
+    private Long id;
+
+    @Column(name = "NAME", length = 100, nullable = false)
+    private String name;
+
+    @Column(name = "CATEGORY", length = 20)
+    private String category;
+
+    @Column(name = "DESCRIPTION", length = 2000)
+    private String description;
+
+    @Column(name = "AMOUNT", precision = 15, scale = 2)
+    private BigDecimal amount;
+
+    @Column(name = "CREATED")
+    private LocalDateTime created;
+
+    @Column(name = "ACTIVE")
+    private boolean active;
+
+    public BenchmarkEntity() {
+    }
+
+    public BenchmarkEntity(int _index) {
+        name = "Entity " + _index;
+        category = "CAT" + (_index % 10);
+        description = "Description of entity " + _index + " ".repeat(400);
+        amount = BigDecimal.valueOf(_index * 100L, 2);
+        created = LocalDateTime.now();
+        active = _index % 2 == 0;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String _name) {
+        name = _name;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public LocalDateTime getCreated() {
+        return created;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+}
@@ -0,0 +1,150 @@
+package com.github.hypfvieh.javafx.db;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the overhead of the different {@link QueryUtil} and {@link DbManager} entry points.
+ * <p>
+ * Every benchmark loads or updates a single {@link BenchmarkEntity}, so the results mainly show the
+ * cost of session handling and transaction wrapping. Run with {@code -prof gc} (default of the benchmark profile)
+ * to get allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QueryUtilBenchmark {
+
+    private static final int LOOKUP_IDS = 100;
+
+    private QueryUtil queryUtil;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        BenchmarkDatabase.setup();
+        queryUtil = DbManager.getQueryUtil();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkDatabase.tearDown();
+    }
+
+    @Benchmark
+    public void executeInSession(Blackhole _bh) {
+        long id = randomId();
+        queryUtil.executeInSession(s -> {
+            _bh.consume(s.get(BenchmarkEntity.class, id));
+            s.clear();
+        });
+    }
+
+    @Benchmark
+    public BenchmarkEntity queryInSession() {
+        long id = randomId();
+        return queryUtil.queryInSession(s -> {
+            BenchmarkEntity entity = s.get(BenchmarkEntity.class, id);
+            s.clear();
+            return entity;
+        });
+    }
+
+    @Benchmark
+    public BenchmarkEntity queryInNewSession() {
+        long id = randomId();
+        return queryUtil.queryInNewSession(s -> s.get(BenchmarkEntity.class, id));
+    }
+
+    @Benchmark
+    public void doInTransaction() {
+        long id = randomId();
+        queryUtil.doInTransaction(s -> {
+            rename(s, id);
+        });
+        queryUtil.executeInSession(Session::clear);
+    }
+
+    @Benchmark
+    public void doInTransactionInNewSession() {
+        long id = randomId();
+        queryUtil.doInTransactionInNewSession(s -> rename(s, id));
+    }
+
+    @Benchmark
+    public void createAndCloseSession(Blackhole _bh) {
+        Session session = queryUtil.createNewSession();
+        _bh.consume(session);
+        session.close();
+    }
+
+    @Benchmark
+    public void createAndCloseQueryUtil(Blackhole _bh) {
+        QueryUtil newQueryUtil = DbManager.getNewQueryUtil();
+        _bh.consume(newQueryUtil);
+        newQueryUtil.closeSession();
+    }
+
+    @Benchmark
+    public BenchmarkEntity pooledQuery() {
+        long id = randomId();
+        return DbManager.getQueryUtilPool().query(q -> q.queryInSession(s -> s.get(BenchmarkEntity.class, id)));
+    }
+
+    @Benchmark
+    public void loadOneByOne(Blackhole _bh) {
+        List<Long> ids = randomIds(LOOKUP_IDS);
+        queryUtil.executeInSession(s -> {
+            for (Long id : ids) {
+                _bh.consume(QueryUtil.getResultOrNull(s.createQuery("FROM BenchmarkEntity WHERE id = :id", BenchmarkEntity.class).setParameter("id", id)));
+            }
+            s.clear();
+        });
+    }
+
+    @Benchmark
+    public List<BenchmarkEntity> loadAll() {
+        List<BenchmarkEntity> result = queryUtil.loadAll(BenchmarkEntity.class, randomIds(LOOKUP_IDS));
+        queryUtil.executeInSession(Session::clear);
+        return result;
+    }
+
+    private static void rename(Session _session, long _id) {
+        BenchmarkEntity entity = _session.get(BenchmarkEntity.class, _id);
+        if (entity != null) {
+            entity.setName("Entity " + _id + " " + System.nanoTime());
+        }
+    }
+
+    private static List<Long> randomIds(int _count) {
+        List<Long> ids = new ArrayList<>(_count);
+        for (int i = 0; i < _count; i++) {
+            ids.add(randomId());
+        }
+        return ids;
+    }
+
+    private static long randomId() {
+        return ThreadLocalRandom.current().nextLong(1, BenchmarkDatabase.ROWS + 1);
+    }
+
+}
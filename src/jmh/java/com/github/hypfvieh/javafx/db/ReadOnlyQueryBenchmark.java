@@ -0,0 +1,68 @@
+package com.github.hypfvieh.javafx.db;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the latency of lookup queries using a regular {@link QueryUtil} and
+ * a {@link QueryUtil} in read-only mode.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReadOnlyQueryBenchmark {
+
+    private QueryUtil defaultQueryUtil;
+    private QueryUtil readOnlyQueryUtil;
+
+    private int category;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        BenchmarkDatabase.setup();
+
+        defaultQueryUtil = DbManager.getNewQueryUtil(false);
+        readOnlyQueryUtil = DbManager.getNewQueryUtil(true);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkDatabase.tearDown();
+    }
+
+    @Benchmark
+    public List<BenchmarkEntity> lookupDefault() {
+        return defaultQueryUtil.queryInSession(this::lookup);
+    }
+
+    @Benchmark
+    public List<BenchmarkEntity> lookupReadOnly() {
+        return readOnlyQueryUtil.queryInSession(this::lookup);
+    }
+
+    private List<BenchmarkEntity> lookup(Session _session) {
+        category = (category + 1) % 10;
+        return _session.createQuery("FROM BenchmarkEntity WHERE category = :cat", BenchmarkEntity.class)
+                .setParameter("cat", "CAT" + category)
+                .setMaxResults(20)
+                .getResultList();
+    }
+
+}
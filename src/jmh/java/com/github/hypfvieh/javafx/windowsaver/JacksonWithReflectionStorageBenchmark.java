@@ -0,0 +1,118 @@
+package com.github.hypfvieh.javafx.windowsaver;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares a write + read round trip of {@link JacksonWithReflectionStorage} with the previous implementation,
+ * which looked up all jackson classes and created a new ObjectMapper on every call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JacksonWithReflectionStorageBenchmark {
+
+    private static final int WINDOWS = 20;
+
+    private final JacksonWithReflectionStorage storage = new JacksonWithReflectionStorage();
+
+    private File file;
+    private Map<String, WindowPosInfo> data;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        file = Files.createTempFile("windowPrefs", ".json").toFile();
+        data = new HashMap<>();
+        for (int i = 0; i < WINDOWS; i++) {
+            WindowPosInfo info = new WindowPosInfo();
+            info.setX(i * 10);
+            info.setY(i * 20);
+            info.setWidth(800);
+            info.setHeight(600);
+            info.setTitle("Window " + i);
+            data.put("com.example.ui.Window" + i + "Controller", info);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        file.delete();
+    }
+
+    @Benchmark
+    public Map<String, WindowPosInfo> roundTripCached() throws IOException {
+        storage.write(file, data);
+        return storage.read(file);
+    }
+
+    @Benchmark
+    public Map<String, WindowPosInfo> roundTripUncached() throws Exception {
+        writeUncached(file, data);
+        return readUncached(file);
+    }
+
+    /**
+     * Previous implementation of {@link JacksonWithReflectionStorage} (reading).
+     */
+    @SuppressWarnings("unchecked")
+    private static Map<String, WindowPosInfo> readUncached(File _file) throws Exception {
+        Class<?> objectMapperClass = Class.forName("com.fasterxml.jackson.databind.ObjectMapper");
+        Object newInstance = objectMapperClass.getDeclaredConstructor().newInstance();
+        setupObjectMapper(objectMapperClass, newInstance);
+
+        Class<?> typeFactoryClass = Class.forName("com.fasterxml.jackson.databind.type.TypeFactory");
+        Object typeFactory = typeFactoryClass.getDeclaredMethod("defaultInstance").invoke(null);
+        Method constructMapMethod = typeFactoryClass.getDeclaredMethod("constructMapType", Class.class, Class.class, Class.class);
+        Object reference = constructMapMethod.invoke(typeFactory, HashMap.class, String.class, WindowPosInfo.class);
+
+        Class<?> javaTypeClass = Class.forName("com.fasterxml.jackson.databind.JavaType");
+        Method readValueMethod = objectMapperClass.getDeclaredMethod("readValue", File.class, javaTypeClass);
+        return (Map<String, WindowPosInfo>) readValueMethod.invoke(newInstance, _file, reference);
+    }
+
+    /**
+     * Previous implementation of {@link JacksonWithReflectionStorage} (writing).
+     */
+    private static void writeUncached(File _file, Map<String, WindowPosInfo> _data) throws Exception {
+        Class<?> objectMapperClass = Class.forName("com.fasterxml.jackson.databind.ObjectMapper");
+        Object newInstance = objectMapperClass.getDeclaredConstructor().newInstance();
+        setupObjectMapper(objectMapperClass, newInstance);
+
+        Class<?> objectWriterClass = Class.forName("com.fasterxml.jackson.databind.ObjectWriter");
+        Object objectWriter = objectMapperClass.getDeclaredMethod("writerWithDefaultPrettyPrinter").invoke(newInstance);
+        objectWriterClass.getDeclaredMethod("writeValue", File.class, Object.class).invoke(objectWriter, _file, _data);
+    }
+
+    private static void setupObjectMapper(Class<?> _objectMapperClass, Object _objectMapper) throws Exception {
+        Class<?> deSerFeatureClass = Class.forName("com.fasterxml.jackson.databind.DeserializationFeature");
+        Object failOnUnknown = null;
+        for (Object feature : deSerFeatureClass.getEnumConstants()) {
+            if ("FAIL_ON_UNKNOWN_PROPERTIES".equals(((Enum<?>) feature).name())) {
+                failOnUnknown = feature;
+            }
+        }
+        _objectMapperClass.getDeclaredMethod("configure", deSerFeatureClass, boolean.class).invoke(_objectMapper, failOnUnknown, false);
+    }
+
+}
@@ -0,0 +1,267 @@
+package com.github.hypfvieh.javafx.db;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.HibernateProxyHelper;
+import org.hibernate.query.Query;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Initializes lazy associations of (usually detached) entities using a separate session.
+ * <p>
+ * For every batch of entities, the first segment of each path is loaded using one fetch join query per segment.
+ * Deeper segments are initialized using {@link Hibernate#initialize(Object)}, which can be batched by hibernate
+ * when {@code hibernate.default_batch_fetch_size} is configured.
+ * The initialized associations are then copied to the given entities.
+ * Only associations which are still uninitialized on the given entities are replaced,
+ * already initialized associations (which may contain unsaved changes) are kept.
+ *
+ * @see QueryUtil#prefetch(List, String...)
+ *
+ * @author hypfvieh
+ * @since v11.0.5 - 2026-10-17
+ */
+final class AssociationPrefetcher {
+    private static final Logger LOGGER = LoggerFactory.getLogger(AssociationPrefetcher.class);
+
+    private final Session session;
+    private final SessionImplementor sessionImpl;
+    private final int batchSize;
+    private final List<String[]> paths = new ArrayList<>();
+
+    AssociationPrefetcher(Session _session, int _batchSize, String... _paths) {
+        validatePaths(_paths);
+        if (_batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be greater than 0");
+        }
+        session = _session;
+        sessionImpl = _session.unwrap(SessionImplementor.class);
+        batchSize = _batchSize;
+        for (String path : _paths) {
+            paths.add(path.split("\\."));
+        }
+    }
+
+    static void validatePaths(String... _paths) {
+        if (_paths == null || _paths.length == 0) {
+            throw new IllegalArgumentException("At least one association path required");
+        }
+        for (String path : _paths) {
+            if (path == null || path.isBlank()) {
+                throw new IllegalArgumentException("Association path must not be empty");
+            }
+        }
+    }
+
+    /**
+     * Initializes the associations of all given entities.
+     * Uninitialized proxies in the given list are skipped.
+     */
+    void prefetch(List<?> _entities) {
+        Map<Class<?>, List<Object>> entitiesByClass = new LinkedHashMap<>();
+        for (Object entity : _entities) {
+            if (entity == null) {
+                continue;
+            }
+            Object target = entity;
+            if (entity instanceof HibernateProxy) {
+                if (Hibernate.isInitialized(entity)) {
+                    target = ((HibernateProxy) entity).getHibernateLazyInitializer().getImplementation();
+                } else {
+                    LOGGER.debug("Skipping uninitialized proxy {}", HibernateProxyHelper.getClassWithoutInitializingProxy(entity));
+                    continue;
+                }
+            }
+            entitiesByClass.computeIfAbsent(target.getClass(), c -> new ArrayList<>()).add(target);
+        }
+
+        for (Map.Entry<Class<?>, List<Object>> e : entitiesByClass.entrySet()) {
+            EntityPersister persister = persister(e.getKey());
+            List<Object> entities = e.getValue();
+            for (int start = 0; start < entities.size(); start += batchSize) {
+                prefetchBatch(persister, entities.subList(start, Math.min(entities.size(), start + batchSize)));
+                session.clear();
+            }
+        }
+    }
+
+    private void prefetchBatch(EntityPersister _persister, List<Object> _entities) {
+        Set<Serializable> ids = new LinkedHashSet<>();
+        for (Object entity : _entities) {
+            ids.add(_persister.getIdentifier(entity, sessionImpl));
+        }
+        List<Serializable> idList = new ArrayList<>(ids);
+
+        Set<String> firstSegments = new LinkedHashSet<>();
+        for (String[] path : paths) {
+            firstSegments.add(path[0]);
+        }
+
+        // load roots with initialized first level associations into the session
+        for (String segment : firstSegments) {
+            if (!_persister.getPropertyType(segment).isAssociationType()) {
+                continue;
+            }
+            Query<?> query = session.createQuery("SELECT e FROM " + _persister.getEntityName() + " e LEFT JOIN FETCH e." + segment
+                + " WHERE e." + _persister.getIdentifierPropertyName() + " IN (:ids)");
+            query.setParameterList("ids", idList);
+            query.setReadOnly(true);
+            query.list();
+        }
+
+        Class<?> entityClass = _persister.getMappedClass();
+        List<?> loaded = multiLoad(entityClass, idList);
+
+        Map<Serializable, Object> loadedById = new LinkedHashMap<>();
+        for (int i = 0; i < idList.size(); i++) {
+            Object root = loaded.get(i);
+            if (root != null) {
+                loadedById.put(idList.get(i), root);
+                for (String[] path : paths) {
+                    initialize(root, path, 0);
+                }
+            }
+        }
+
+        for (Object entity : _entities) {
+            Object root = loadedById.get(_persister.getIdentifier(entity, sessionImpl));
+            if (root == null) {
+                LOGGER.debug("Entity {} with id {} no longer exists", _persister.getEntityName(), _persister.getIdentifier(entity, sessionImpl));
+                continue;
+            }
+            for (String[] path : paths) {
+                copyAssociation(entity, root, path, 0);
+            }
+        }
+    }
+
+    private <T> List<T> multiLoad(Class<T> _entityClass, List<Serializable> _ids) {
+        return session.byMultipleIds(_entityClass)
+            .enableSessionCheck(true)
+            .enableOrderedReturn(true)
+            .withBatchSize(batchSize)
+            .multiLoad(_ids);
+    }
+
+    /**
+     * Copies the association of the given path segment from the loaded entity to the target entity.
+     * <p>
+     * Only uninitialized associations are replaced, so changes done to the target entity are kept.
+     * If the association is already initialized on the target, the next segment is copied to the associated
+     * entities of the target instead.
+     *
+     * @param _target entity passed by the caller
+     * @param _loaded same entity loaded with initialized associations
+     * @param _path association path
+     * @param _depth index of current path segment
+     */
+    private void copyAssociation(Object _target, Object _loaded, String[] _path, int _depth) {
+        if (_target == null || _loaded == null || _depth >= _path.length || !Hibernate.isInitialized(_target)) {
+            return;
+        }
+        Object target = Hibernate.unproxy(_target);
+        Object loaded = Hibernate.unproxy(_loaded);
+        EntityPersister persister = persister(target.getClass());
+        int idx = propertyIndex(persister, _path[_depth]);
+        if (!persister.getPropertyTypes()[idx].isAssociationType()) {
+            LOGGER.debug("Property {} of {} is no association, nothing to prefetch", _path[_depth], persister.getEntityName());
+            return;
+        }
+
+        Object targetValue = persister.getPropertyValue(target, idx);
+        Object loadedValue = persister.getPropertyValue(loaded, idx);
+        if (targetValue != null && !Hibernate.isInitialized(targetValue)) {
+            if (loadedValue instanceof PersistentCollection) {
+                // collection now belongs to the given entity, the loaded entity is discarded
+                ((PersistentCollection) loadedValue).setOwner(target);
+            }
+            persister.setPropertyValue(target, idx, loadedValue);
+            return;
+        }
+
+        if (targetValue == null || loadedValue == null || _depth + 1 >= _path.length) {
+            return;
+        }
+        if (targetValue instanceof Collection || targetValue instanceof Map) {
+            Map<Object, Object> loadedElements = new HashMap<>();
+            for (Object element : elements(loadedValue)) {
+                if (element != null) {
+                    loadedElements.put(elementKey(element), element);
+                }
+            }
+            for (Object element : elements(targetValue)) {
+                if (element != null && Hibernate.isInitialized(element)) {
+                    copyAssociation(element, loadedElements.get(elementKey(element)), _path, _depth + 1);
+                }
+            }
+        } else {
+            copyAssociation(targetValue, loadedValue, _path, _depth + 1);
+        }
+    }
+
+    private static Collection<?> elements(Object _value) {
+        return _value instanceof Map ? ((Map<?, ?>) _value).values() : (Collection<?>) _value;
+    }
+
+    /**
+     * Key identifying an entity of any entity class.
+     */
+    private List<Object> elementKey(Object _entity) {
+        Object entity = Hibernate.unproxy(_entity);
+        EntityPersister persister = persister(entity.getClass());
+        return List.of(persister.getRootEntityName(), persister.getIdentifier(entity, sessionImpl));
+    }
+
+    private void initialize(Object _owner, String[] _path, int _depth) {
+        if (_owner == null || _depth >= _path.length) {
+            return;
+        }
+        Object owner = Hibernate.unproxy(_owner);
+        EntityPersister persister = persister(owner.getClass());
+        Object value = persister.getPropertyValue(owner, _path[_depth]);
+        Hibernate.initialize(value);
+
+        if (_depth + 1 >= _path.length) {
+            return;
+        }
+        if (value instanceof Collection) {
+            for (Object element : (Collection<?>) value) {
+                initialize(element, _path, _depth + 1);
+            }
+        } else if (value instanceof Map) {
+            for (Object element : ((Map<?, ?>) value).values()) {
+                initialize(element, _path, _depth + 1);
+            }
+        } else {
+            initialize(value, _path, _depth + 1);
+        }
+    }
+
+    private EntityPersister persister(Class<?> _clz) {
+        return sessionImpl.getFactory().getMetamodel().entityPersister(_clz);
+    }
+
+    private static int propertyIndex(EntityPersister _persister, String _property) {
+        int idx = Arrays.asList(_persister.getPropertyNames()).indexOf(_property);
+        if (idx < 0) {
+            throw new IllegalArgumentException("Entity " + _persister.getEntityName() + " has no property " + _property);
+        }
+        return idx;
+    }
+}
@@ -0,0 +1,71 @@
+package com.github.hypfvieh.javafx.db;
+
+import java.time.Duration;
+
+/**
+ * Result of a batch write operation performed by {@link QueryUtil#batchWrite(Iterable, java.util.function.BiConsumer, int, int, int)}.
+ *
+ * @author hypfvieh
+ * @since v11.0.5 - 2026-10-17
+ */
+public final class BatchWriteResult {
+    private final long rows;
+    private final int chunks;
+    private final int retries;
+    private final Duration duration;
+
+    BatchWriteResult(long _rows, int _chunks, int _retries, Duration _duration) {
+        rows = _rows;
+        chunks = _chunks;
+        retries = _retries;
+        duration = _duration;
+    }
+
+    /**
+     * Number of entities written.
+     * @return long
+     */
+    public long getRows() {
+        return rows;
+    }
+
+    /**
+     * Number of committed transactions.
+     * @return int
+     */
+    public int getChunks() {
+        return chunks;
+    }
+
+    /**
+     * Number of chunks which had to be retried.
+     * @return int
+     */
+    public int getRetries() {
+        return retries;
+    }
+
+    /**
+     * Total time used to write all entities.
+     * @return Duration
+     */
+    public Duration getDuration() {
+        return duration;
+    }
+
+    /**
+     * Throughput of the batch operation.
+     * @return rows per second
+     */
+    public double getRowsPerSecond() {
+        long nanos = duration.toNanos();
+        return nanos <= 0 ? rows : rows * 1_000_000_000d / nanos;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [rows=" + rows + ", chunks=" + chunks + ", retries=" + retries
+                + ", duration=" + duration.toMillis() + " ms, rowsPerSecond=" + String.format("%.1f", getRowsPerSecond()) + "]";
+    }
+
+}
@@ -0,0 +1,61 @@
+package com.github.hypfvieh.javafx.db;
+
+import java.io.Serializable;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.hibernate.EmptyInterceptor;
+import org.hibernate.Hibernate;
+import org.hibernate.Transaction;
+import org.hibernate.type.Type;
+
+/**
+ * Session scoped interceptor which collects the classes of all written entities and
+ * invalidates the related results in the {@link QueryResultCache} when the transaction completes.
+ * Results are invalidated on rollback as well, which is harmless but keeps this class simple.
+ *
+ * @author hypfvieh
+ * @since v11.0.5 - 2026-10-17
+ */
+class CacheInvalidationInterceptor extends EmptyInterceptor {
+    private static final long serialVersionUID = 1L;
+
+    private final transient QueryResultCache cache;
+    private final Set<Class<?>> writtenClasses = new HashSet<>();
+
+    CacheInvalidationInterceptor(QueryResultCache _cache) {
+        cache = _cache;
+    }
+
+    @Override
+    public boolean onSave(Object _entity, Serializable _id, Object[] _state, String[] _propertyNames, Type[] _types) {
+        written(_entity);
+        return false;
+    }
+
+    @Override
+    public boolean onFlushDirty(Object _entity, Serializable _id, Object[] _currentState, Object[] _previousState, String[] _propertyNames, Type[] _types) {
+        written(_entity);
+        return false;
+    }
+
+    @Override
+    public void onDelete(Object _entity, Serializable _id, Object[] _state, String[] _propertyNames, Type[] _types) {
+        written(_entity);
+    }
+
+    @Override
+    public void afterTransactionCompletion(Transaction _tx) {
+        if (!writtenClasses.isEmpty()) {
+            cache.invalidate(writtenClasses);
+            writtenClasses.clear();
+        }
+    }
+
+    private void written(Object _entity) {
+        if (_entity != null) {
+            writtenClasses.add(Hibernate.getClass(_entity));
+        }
+    }
+
+}
@@ -0,0 +1,167 @@
+package com.github.hypfvieh.javafx.db;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import com.github.hypfvieh.javafx.db.DbManager.DbCred;
+
+/**
+ * Handle to a database managed by {@link DbManager}.
+ * <p>
+ * Every database uses its own hibernate configuration, {@link org.hibernate.SessionFactory},
+ * connection pool, {@link QueryUtil} and {@link QueryUtilPool}.
+ * The methods of this class behave like the static methods of {@link DbManager} with the same name.
+ * <p>
+ * <strong>Requires hibernate, please add it to your project, otherwise using this class will fail
+ * </strong>
+ *
+ * @author hypfvieh
+ * @since v11.0.5 - 2026-10-17
+ */
+public final class DbDataSource implements Closeable {
+    private final String name;
+    private final Supplier<DbManager> manager;
+
+    DbDataSource(String _name, Supplier<DbManager> _manager) {
+        name = _name;
+        manager = _manager;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @see DbManager#getQueryUtil()
+     * @return {@link QueryUtil}
+     */
+    public QueryUtil getQueryUtil() {
+        return manager.get().defaultQueryUtil();
+    }
+
+    /**
+     * @see DbManager#getNewQueryUtil(boolean)
+     * @param _readOnly true to create a read-only instance
+     * @return {@link QueryUtil}
+     */
+    public QueryUtil getNewQueryUtil(boolean _readOnly) {
+        return manager.get().newQueryUtil(_readOnly);
+    }
+
+    /**
+     * @see DbManager#getQueryUtilPool()
+     * @return {@link QueryUtilPool}
+     */
+    public QueryUtilPool getQueryUtilPool() {
+        return manager.get().pool();
+    }
+
+    /**
+     * @see DbManager#configureQueryUtilPool(int, Duration)
+     * @param _maxSize maximum number of {@link QueryUtil} instances leased at the same time
+     * @param _maxIdle maximum time an unused pooled instance is kept open, null to never evict
+     */
+    public void configureQueryUtilPool(int _maxSize, Duration _maxIdle) {
+        manager.get().configurePool(_maxSize, _maxIdle);
+    }
+
+    /**
+     * @see DbManager#configureConnectionPool(int, int)
+     * @param _minSize minimum (and initial) number of pooled connections
+     * @param _maxSize maximum number of pooled connections
+     */
+    public void configureConnectionPool(int _minSize, int _maxSize) {
+        manager.get().connectionPool(_minSize, _maxSize);
+    }
+
+    /**
+     * @see DbManager#getOpenSessionCount()
+     * @return number of open sessions
+     */
+    public int getOpenSessionCount() {
+        return manager.get().openSessionCount();
+    }
+
+    /**
+     * @see DbManager#setHibernateProperty(String, String)
+     * @param _property property name
+     * @param _value value
+     */
+    public void setHibernateProperty(String _property, String _value) {
+        manager.get().applyHibernateProperty(_property, _value);
+    }
+
+    /**
+     * @see DbManager#setQueryResultCache(QueryResultCache)
+     * @param _cache cache, null to disable
+     */
+    public void setQueryResultCache(QueryResultCache _cache) {
+        manager.get().resultCache(_cache);
+    }
+
+    /**
+     * @see DbManager#setQueryInstrumentation(QueryInstrumentation)
+     * @param _instrumentation instrumentation, null to disable
+     */
+    public void setQueryInstrumentation(QueryInstrumentation _instrumentation) {
+        manager.get().instrumentation(_instrumentation);
+    }
+
+    /**
+     * @see DbManager#setDefaultQueryTimeout(Duration)
+     * @param _timeout timeout, null to wait forever
+     */
+    public void setDefaultQueryTimeout(Duration _timeout) {
+        manager.get().queryTimeout(_timeout);
+    }
+
+    /**
+     * @see DbManager#setRetryPolicy(RetryPolicy)
+     * @param _retryPolicy policy, null to disable retries
+     */
+    public void setRetryPolicy(RetryPolicy _retryPolicy) {
+        manager.get().retryPolicy(_retryPolicy);
+    }
+
+    /**
+     * @see DbManager#getDbCredentials()
+     * @return Map
+     */
+    public Map<DbCred, String> getDbCredentials() {
+        return manager.get().credentials();
+    }
+
+    /**
+     * @see DbManager#initializeInBackground()
+     * @return future which completes when database is initialized
+     */
+    public CompletableFuture<Void> initializeInBackground() {
+        return manager.get().startBackgroundInit();
+    }
+
+    /**
+     * @see DbManager#isInitialized()
+     * @return true if initialized
+     */
+    public boolean isInitialized() {
+        return manager.get().initialized();
+    }
+
+    /**
+     * Closes all sessions and the session factory of this database.
+     * The database stays registered and will be re-initialized on next use.
+     */
+    @Override
+    public void close() {
+        manager.get().close();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[" + name + "]";
+    }
+
+}
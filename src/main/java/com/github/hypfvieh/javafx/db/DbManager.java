@@ -1,18 +1,23 @@
 package com.github.hypfvieh.javafx.db;
 
 import java.io.Closeable;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 
 import org.hibernate.SessionFactory;
 import org.hibernate.boot.MetadataSources;
 import org.hibernate.boot.registry.StandardServiceRegistry;
 import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.cfg.Configuration;
+import org.hibernate.engine.jdbc.connections.internal.DriverManagerConnectionProviderImpl;
 
 /**
  * Singleton manager class to access database easily.
@@ -21,6 +26,14 @@ import org.hibernate.cfg.Configuration;
  * That will guarantee that you will always get the same database session.
  * Please note that this may not work well with multi-threading.
  * <p>
+ * For multi-threaded access use {@link #getQueryUtilPool()} which will lease
+ * a dedicated {@link QueryUtil} to each caller.
+ * <p>
+ * All static methods operate on the default database. Additional databases can be registered using
+ * {@link #registerDataSource(String, String)} and accessed by using the returned {@link DbDataSource}.
+ * A registered database can be used for all reading access (e.g. a reporting replica) by calling
+ * {@link #setReadDataSource(String)} and using the methods taking {@link DbAccess}.
+ * <p>
  * <strong>Requires hibernate, please add it to your project, otherwise using this class will fail
  * </strong>
  *
@@ -28,14 +41,34 @@ import org.hibernate.cfg.Configuration;
  * @since v11.0.0 - 2020-09-11
  */
 public class DbManager implements Closeable {
+    /** Name of the default database. */
+    public static final String DEFAULT_DATASOURCE = "default";
+
     private static DbManager INSTANCE = new DbManager();
 
-    private final List<QueryUtil> otherSessions = new ArrayList<>();
+    private static final Map<String, DbManager> DATASOURCES = new ConcurrentHashMap<>();
+
+    private static volatile String readDataSource;
+
+    private final QueryUtilTracker otherSessions = new QueryUtilTracker();
 
     private SessionFactory sessionFactory;
 
+    private CompletableFuture<SessionFactory> sessionFactoryFuture;
+
     private QueryUtil queryUtil;
 
+    private QueryUtilPool queryUtilPool;
+
+    private int poolMaxSize = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+    private Duration poolMaxIdle = Duration.ofMinutes(5);
+
+    private QueryResultCache queryResultCache;
+    private QueryInstrumentation queryInstrumentation;
+    private Duration queryTimeout;
+    private RetryPolicy retryPolicy;
+
     private Map<String, String> hibernateProperties = new HashMap<>();
 
     private BiFunction<DbCred, String, String> decryptionFunction;
@@ -52,13 +85,13 @@ public class DbManager implements Closeable {
      * @throws RuntimeException when {@link SessionFactory} creation failed
      */
     SessionFactory initDb() {
-        INSTANCE.loadConfig();
+        loadConfig();
 
         // Create the ServiceRegistry from hibernate.cfg.xml
         StandardServiceRegistryBuilder regBuilder = hibernateCfg.getStandardServiceRegistryBuilder();
 
         if (decryptionFunction != null) {
-            Map<DbCred, String> dbCredentials = getDbCredentials();
+            Map<DbCred, String> dbCredentials = credentials();
             for (Entry<DbCred, String> e : dbCredentials.entrySet()) {
                 regBuilder.applySetting(e.getKey().getHibernateParameter(), e.getValue());
             }
@@ -84,6 +117,8 @@ public class DbManager implements Closeable {
     private void loadConfig() {
         if (hibernateCfg == null) {
             hibernateCfg = new Configuration().configure(hibernateXml);
+            // re-apply overridden properties when configuration is loaded again after close
+            hibernateProperties.forEach(hibernateCfg::setProperty);
         }
     }
 
@@ -94,9 +129,13 @@ public class DbManager implements Closeable {
      * @param _value value
      */
     public static void setHibernateProperty(String _property, String _value) {
-        INSTANCE.loadConfig();
-        INSTANCE.hibernateCfg.setProperty(_property, _value);
-        INSTANCE.hibernateProperties.put(_property, _value);
+        INSTANCE.applyHibernateProperty(_property, _value);
+    }
+
+    void applyHibernateProperty(String _property, String _value) {
+        loadConfig();
+        hibernateCfg.setProperty(_property, _value);
+        hibernateProperties.put(_property, _value);
     }
 
     /**
@@ -116,7 +155,11 @@ public class DbManager implements Closeable {
      * @return Map
      */
     public static Map<DbCred, String> getDbCredentials() {
-        INSTANCE.loadConfig();
+        return INSTANCE.credentials();
+    }
+
+    Map<DbCred, String> credentials() {
+        loadConfig();
 
         return Map.of(DbCred.USERNAME, decryptIfEncrypted(DbCred.USERNAME),
                 DbCred.PASSWORD, decryptIfEncrypted(DbCred.PASSWORD),
@@ -130,11 +173,11 @@ public class DbManager implements Closeable {
      * @param _cred db credential to decrypt
      * @return String, maybe result of decryption method
      */
-    private static String decryptIfEncrypted(DbCred _cred) {
-        if (INSTANCE.decryptionFunction != null) {
-            return INSTANCE.decryptionFunction.apply(_cred, INSTANCE.hibernateCfg.getProperty(_cred.getHibernateParameter()));
+    private String decryptIfEncrypted(DbCred _cred) {
+        if (decryptionFunction != null) {
+            return decryptionFunction.apply(_cred, hibernateCfg.getProperty(_cred.getHibernateParameter()));
         }
-        return INSTANCE.hibernateCfg.getProperty(_cred.getHibernateParameter());
+        return hibernateCfg.getProperty(_cred.getHibernateParameter());
     }
 
     /**
@@ -160,6 +203,13 @@ public class DbManager implements Closeable {
         BiFunction<DbCred, String, String> decryptionFunction = INSTANCE.decryptionFunction;
 
         Map<String, String> hibernateProps = INSTANCE.hibernateProperties;
+        int poolMaxSize = INSTANCE.poolMaxSize;
+        Duration poolMaxIdle = INSTANCE.poolMaxIdle;
+        QueryResultCache queryResultCache = INSTANCE.queryResultCache;
+        QueryInstrumentation queryInstrumentation = INSTANCE.queryInstrumentation;
+        Duration queryTimeout = INSTANCE.queryTimeout;
+        RetryPolicy retryPolicy = INSTANCE.retryPolicy;
+        Duration leakThreshold = INSTANCE.otherSessions.getLeakThreshold();
 
         closeInstance();
 
@@ -169,20 +219,208 @@ public class DbManager implements Closeable {
 		}
         setHibernateXml(hibernateXml);
         useEncryption(decryptionFunction);
+        configureQueryUtilPool(poolMaxSize, poolMaxIdle);
+        enableSessionLeakDetection(leakThreshold);
+        if (queryResultCache != null) {
+            queryResultCache.clear();
+            setQueryResultCache(queryResultCache);
+        }
+        setQueryInstrumentation(queryInstrumentation);
+        setDefaultQueryTimeout(queryTimeout);
+        setRetryPolicy(retryPolicy);
     }
 
     private DbManager() {
 
     }
 
+    private DbManager(String _hibernateXml, BiFunction<DbCred, String, String> _decryptionFunction) {
+        hibernateXml = _hibernateXml;
+        decryptionFunction = _decryptionFunction;
+    }
+
+    /**
+     * Register an additional database using the given hibernate configuration.
+     * The database uses its own {@link SessionFactory}, connection pool and {@link QueryUtil} instances.
+     *
+     * @param _name name of the database, must not be {@link #DEFAULT_DATASOURCE}
+     * @param _hibernateXml hibernate configuration file
+     * @return {@link DbDataSource} to access the database
+     * @throws IllegalArgumentException if name is invalid or already registered
+     *
+     * @since v11.0.5 - 2026-10-17
+     */
+    public static DbDataSource registerDataSource(String _name, String _hibernateXml) {
+        return registerDataSource(_name, _hibernateXml, null);
+    }
+
+    /**
+     * Register an additional database using the given hibernate configuration and decryption function.
+     *
+     * @param _name name of the database, must not be {@link #DEFAULT_DATASOURCE}
+     * @param _hibernateXml hibernate configuration file
+     * @param _decryptionFunction function to decrypt credentials, null to disable
+     * @return {@link DbDataSource} to access the database
+     * @throws IllegalArgumentException if name is invalid or already registered
+     *
+     * @see #registerDataSource(String, String)
+     * @see #useEncryption(BiFunction)
+     * @since v11.0.5 - 2026-10-17
+     */
+    public static DbDataSource registerDataSource(String _name, String _hibernateXml, BiFunction<DbCred, String, String> _decryptionFunction) {
+        if (_name == null || _name.isBlank() || DEFAULT_DATASOURCE.equals(_name)) {
+            throw new IllegalArgumentException("Invalid datasource name: " + _name);
+        }
+        if (_hibernateXml == null || _hibernateXml.isBlank()) {
+            throw new IllegalArgumentException("Hibernate configuration required");
+        }
+        DbManager manager = new DbManager(_hibernateXml, _decryptionFunction);
+        if (DATASOURCES.putIfAbsent(_name, manager) != null) {
+            throw new IllegalArgumentException("Datasource already registered: " + _name);
+        }
+        return new DbDataSource(_name, () -> manager);
+    }
+
+    /**
+     * Returns the database registered with the given name.
+     * Using {@link #DEFAULT_DATASOURCE} will return the default database.
+     *
+     * @param _name name of database
+     * @return {@link DbDataSource}
+     * @throws IllegalArgumentException if no database with that name is registered
+     *
+     * @since v11.0.5 - 2026-10-17
+     */
+    public static DbDataSource getDataSource(String _name) {
+        if (_name == null || DEFAULT_DATASOURCE.equals(_name)) {
+            return new DbDataSource(DEFAULT_DATASOURCE, () -> INSTANCE);
+        }
+        DbManager manager = DATASOURCES.get(_name);
+        if (manager == null) {
+            throw new IllegalArgumentException("No datasource registered with name: " + _name);
+        }
+        return new DbDataSource(_name, () -> manager);
+    }
+
+    /**
+     * Closes and removes the database registered with the given name.
+     * If this database was used for reading access, reading access will use the default database again.
+     *
+     * @param _name name of database
+     * @since v11.0.5 - 2026-10-17
+     */
+    public static void unregisterDataSource(String _name) {
+        if (_name == null) {
+            return;
+        }
+        DbManager manager = DATASOURCES.remove(_name);
+        if (_name.equals(readDataSource)) {
+            readDataSource = null;
+        }
+        if (manager != null) {
+            manager.close();
+        }
+    }
+
+    /**
+     * Route all reading access (using {@link DbAccess#READ}) to the given database.
+     *
+     * @param _name name of a registered database, null or {@link #DEFAULT_DATASOURCE} to use the default database
+     * @throws IllegalArgumentException if no database with that name is registered
+     *
+     * @since v11.0.5 - 2026-10-17
+     */
+    public static void setReadDataSource(String _name) {
+        if (_name != null && !DEFAULT_DATASOURCE.equals(_name) && !DATASOURCES.containsKey(_name)) {
+            throw new IllegalArgumentException("No datasource registered with name: " + _name);
+        }
+        readDataSource = DEFAULT_DATASOURCE.equals(_name) ? null : _name;
+    }
+
+    /**
+     * Returns the database used for the given kind of access.
+     * Writing access always uses the default database.
+     *
+     * @param _access kind of access
+     * @return {@link DbDataSource}
+     * @since v11.0.5 - 2026-10-17
+     */
+    public static DbDataSource getDataSource(DbAccess _access) {
+        String name = _access == DbAccess.READ ? readDataSource : null;
+        if (name != null) {
+            DbManager manager = DATASOURCES.get(name);
+            if (manager != null) {
+                return new DbDataSource(name, () -> manager);
+            }
+        }
+        return getDataSource(DEFAULT_DATASOURCE);
+    }
+
+    /**
+     * Returns a new {@link QueryUtil} of the database used for the given kind of access.
+     * For {@link DbAccess#READ} the returned {@link QueryUtil} is read-only.
+     *
+     * @param _access kind of access
+     * @return {@link QueryUtil}
+     * @since v11.0.5 - 2026-10-17
+     */
+    public static QueryUtil getNewQueryUtil(DbAccess _access) {
+        return getDataSource(_access).getNewQueryUtil(_access == DbAccess.READ);
+    }
+
+    /**
+     * Returns the {@link QueryUtilPool} of the database used for the given kind of access.
+     *
+     * @param _access kind of access
+     * @return {@link QueryUtilPool}
+     * @since v11.0.5 - 2026-10-17
+     */
+    public static QueryUtilPool getQueryUtilPool(DbAccess _access) {
+        return getDataSource(_access).getQueryUtilPool();
+    }
+
+    /**
+     * Closes the default database and all registered databases.
+     * Registered databases will be removed.
+     *
+     * @since v11.0.5 - 2026-10-17
+     */
+    public static void closeAll() {
+        for (String name : new ArrayList<>(DATASOURCES.keySet())) {
+            unregisterDataSource(name);
+        }
+        closeInstance();
+    }
+
     /**
      * Returns a new {@link QueryUtil}.
      * All returned instances will be tracked and will be close if MainWindow is closed.
+     * <p>
+     * Call {@link QueryUtil#closeSession()} when the instance is no longer needed.
+     * Instances which are not closed explicitly will be closed when they are garbage collected.
+     *
      * @return {@link SessionFactory}
      */
     public static QueryUtil getNewQueryUtil() {
-        QueryUtil qutil = new QueryUtil(INSTANCE.getSessionFactory());
-        INSTANCE.otherSessions.add(qutil);
+        return getNewQueryUtil(false);
+    }
+
+    /**
+     * Returns a new {@link QueryUtil} optionally using read-only sessions.
+     * All returned instances will be tracked and will be close if MainWindow is closed.
+     *
+     * @param _readOnly true to create a read-only instance
+     * @return {@link QueryUtil}
+     * @see QueryUtil#QueryUtil(SessionFactory, boolean)
+     * @since v11.0.5 - 2026-10-17
+     */
+    public static QueryUtil getNewQueryUtil(boolean _readOnly) {
+        return INSTANCE.newQueryUtil(_readOnly);
+    }
+
+    synchronized QueryUtil newQueryUtil(boolean _readOnly) {
+        QueryUtil qutil = createQueryUtil(_readOnly);
+        otherSessions.track(qutil);
         return qutil;
     }
 
@@ -192,10 +430,220 @@ public class DbManager implements Closeable {
      * @return {@link QueryUtil}
      */
     public static QueryUtil getQueryUtil() {
-        if (INSTANCE.queryUtil == null) {
-            INSTANCE.queryUtil =  new QueryUtil(INSTANCE.getSessionFactory());
+        return INSTANCE.defaultQueryUtil();
+    }
+
+    synchronized QueryUtil defaultQueryUtil() {
+        if (queryUtil == null) {
+            queryUtil = createQueryUtil(false);
         }
-        return INSTANCE.queryUtil;
+        return queryUtil;
+    }
+
+    /**
+     * Configures the pool returned by {@link #getQueryUtilPool()}.
+     * Must be called before the pool is used for the first time, otherwise it has no effect.
+     *
+     * @param _maxSize maximum number of {@link QueryUtil} instances leased at the same time
+     * @param _maxIdle maximum time an unused pooled instance is kept open, null to never evict
+     *
+     * @since v11.0.5 - 2026-10-17
+     */
+    public static void configureQueryUtilPool(int _maxSize, Duration _maxIdle) {
+        INSTANCE.configurePool(_maxSize, _maxIdle);
+    }
+
+    synchronized void configurePool(int _maxSize, Duration _maxIdle) {
+        if (_maxSize <= 0) {
+            throw new IllegalArgumentException("Pool size must be greater than 0");
+        }
+        poolMaxSize = _maxSize;
+        poolMaxIdle = _maxIdle;
+    }
+
+    /**
+     * Get the pool of {@link QueryUtil} instances.
+     * Each borrowed instance uses its own session, so it can be used in parallel
+     * to other threads. Borrowed instances must be returned using {@link QueryUtilPool#release(QueryUtil)}.
+     *
+     * @return {@link QueryUtilPool}
+     *
+     * @since v11.0.5 - 2026-10-17
+     */
+    public static QueryUtilPool getQueryUtilPool() {
+        return INSTANCE.pool();
+    }
+
+    synchronized QueryUtilPool pool() {
+        if (queryUtilPool == null) {
+            queryUtilPool = new QueryUtilPool(() -> createQueryUtil(false), poolMaxSize, poolMaxIdle);
+        }
+        return queryUtilPool;
+    }
+
+    /**
+     * Set a cache for query results which will be used by all {@link QueryUtil} instances created by this class.
+     * Should be called before any {@link QueryUtil} is created.
+     *
+     * @param _cache cache, null to disable
+     * @see QueryUtil#queryCached(Class, String, Map, Class...)
+     * @since v11.0.5 - 2026-10-17
+     */
+    public static void setQueryResultCache(QueryResultCache _cache) {
+        INSTANCE.resultCache(_cache);
+    }
+
+    synchronized void resultCache(QueryResultCache _cache) {
+        queryResultCache = _cache;
+        if (queryUtil != null) {
+            queryUtil.setResultCache(_cache);
+        }
+    }
+
+    /**
+     * Returns the cache for query results.
+     *
+     * @return cache or null if not set
+     * @since v11.0.5 - 2026-10-17
+     */
+    public static QueryResultCache getQueryResultCache() {
+        return INSTANCE.queryResultCache;
+    }
+
+    /**
+     * Set the instrumentation which will be used by all {@link QueryUtil} instances created by this class.
+     * Should be called before any {@link QueryUtil} is created, instances already in the pool will not be changed.
+     *
+     * @param _instrumentation instrumentation (e.g. {@link QueryMetrics}), null to disable
+     * @since v11.0.5 - 2026-10-17
+     */
+    public static void setQueryInstrumentation(QueryInstrumentation _instrumentation) {
+        INSTANCE.instrumentation(_instrumentation);
+    }
+
+    synchronized void instrumentation(QueryInstrumentation _instrumentation) {
+        queryInstrumentation = _instrumentation;
+        if (queryUtil != null) {
+            queryUtil.setInstrumentation(_instrumentation);
+        }
+    }
+
+    /**
+     * Returns the instrumentation used by {@link QueryUtil} instances.
+     *
+     * @return instrumentation or null if not set
+     * @since v11.0.5 - 2026-10-17
+     */
+    public static QueryInstrumentation getQueryInstrumentation() {
+        return INSTANCE.queryInstrumentation;
+    }
+
+    /**
+     * Set the default timeout for all {@link QueryUtil} instances created by this class.
+     * Should be called before any {@link QueryUtil} is created, instances already in the pool will not be changed.
+     *
+     * @param _timeout timeout, null to wait forever
+     * @see QueryUtil#setDefaultTimeout(Duration)
+     * @since v11.0.5 - 2026-10-17
+     */
+    public static void setDefaultQueryTimeout(Duration _timeout) {
+        INSTANCE.queryTimeout(_timeout);
+    }
+
+    synchronized void queryTimeout(Duration _timeout) {
+        queryTimeout = _timeout;
+        if (queryUtil != null) {
+            queryUtil.setDefaultTimeout(_timeout);
+        }
+    }
+
+    /**
+     * Returns the default timeout of {@link QueryUtil} instances.
+     *
+     * @return timeout or null if not set
+     * @since v11.0.5 - 2026-10-17
+     */
+    public static Duration getDefaultQueryTimeout() {
+        return INSTANCE.queryTimeout;
+    }
+
+    /**
+     * Set the retry policy for transactions of all {@link QueryUtil} instances created by this class.
+     * Should be called before any {@link QueryUtil} is created, instances already in the pool will not be changed.
+     *
+     * @param _retryPolicy policy, null to disable retries
+     * @see QueryUtil#setRetryPolicy(RetryPolicy)
+     * @since v11.0.5 - 2026-10-17
+     */
+    public static void setRetryPolicy(RetryPolicy _retryPolicy) {
+        INSTANCE.retryPolicy(_retryPolicy);
+    }
+
+    synchronized void retryPolicy(RetryPolicy _retryPolicy) {
+        retryPolicy = _retryPolicy;
+        if (queryUtil != null) {
+            queryUtil.setRetryPolicy(_retryPolicy);
+        }
+    }
+
+    /**
+     * Returns the retry policy of {@link QueryUtil} instances.
+     *
+     * @return policy or null if not set
+     * @since v11.0.5 - 2026-10-17
+     */
+    public static RetryPolicy getRetryPolicy() {
+        return INSTANCE.retryPolicy;
+    }
+
+    /**
+     * Creates a new {@link QueryUtil} using the current configuration.
+     */
+    private QueryUtil createQueryUtil(boolean _readOnly) {
+        QueryUtil qutil = new QueryUtil(getSessionFactory(), _readOnly);
+        if (queryResultCache != null) {
+            qutil.setResultCache(queryResultCache);
+        }
+        qutil.setInstrumentation(queryInstrumentation);
+        qutil.setDefaultTimeout(queryTimeout);
+        qutil.setRetryPolicy(retryPolicy);
+        return qutil;
+    }
+
+    /**
+     * Enables logging of {@link QueryUtil} instances created by {@link #getNewQueryUtil()} which are kept
+     * open longer than the given time. The log message contains the stack of the code which created the instance.
+     * <p>
+     * Recording the allocation stack is expensive, so this should only be used to find leaks.
+     *
+     * @param _threshold time after which an open instance is considered leaked, null to disable
+     * @since v11.0.5 - 2026-10-17
+     */
+    public static void enableSessionLeakDetection(Duration _threshold) {
+        INSTANCE.otherSessions.setLeakThreshold(_threshold);
+    }
+
+    /**
+     * Returns the number of currently open database sessions.
+     * This includes the session of {@link #getQueryUtil()}, all sessions of instances created by
+     * {@link #getNewQueryUtil()} which were not closed yet and all sessions held by the {@link QueryUtilPool}.
+     *
+     * @return number of open sessions
+     * @since v11.0.5 - 2026-10-17
+     */
+    public static int getOpenSessionCount() {
+        return INSTANCE.openSessionCount();
+    }
+
+    synchronized int openSessionCount() {
+        int count = otherSessions.getOpenCount();
+        if (queryUtil != null && queryUtil.hasOpenSession()) {
+            count++;
+        }
+        if (queryUtilPool != null) {
+            count += queryUtilPool.getActiveCount() + queryUtilPool.getIdleCount();
+        }
+        return count;
     }
 
     /**
@@ -212,26 +660,142 @@ public class DbManager implements Closeable {
      *
      * @return {@link SessionFactory}
      */
-    SessionFactory getSessionFactory() {
+    synchronized SessionFactory getSessionFactory() {
         if (sessionFactory == null) {
-            sessionFactory = initDb();
+            if (sessionFactoryFuture != null) {
+                sessionFactory = awaitBackgroundInit();
+            } else {
+                sessionFactory = initDb();
+            }
         }
 
         return sessionFactory;
     }
 
+    /**
+     * Waits for the {@link SessionFactory} created in background.
+     * @return {@link SessionFactory}
+     * @throws RuntimeException when {@link SessionFactory} creation failed
+     */
+    private SessionFactory awaitBackgroundInit() {
+        CompletableFuture<SessionFactory> future = sessionFactoryFuture;
+        sessionFactoryFuture = null;
+        try {
+            return future.join();
+        } catch (CompletionException _ex) {
+            if (_ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) _ex.getCause();
+            }
+            throw new RuntimeException("Could not initialize database", _ex.getCause());
+        }
+    }
+
+    /**
+     * Starts building the hibernate metadata and {@link SessionFactory} in a background thread.
+     * <p>
+     * This can be used to initialize the database while e.g. a splash screen is shown.
+     * All methods requiring the database (like {@link #getQueryUtil()}) will block until the
+     * background initialization is done. Configuration (like {@link #setHibernateXml(String)} or
+     * {@link #setHibernateProperty(String, String)}) must be done before calling this method.
+     * <p>
+     * Calling this method if the database is already initialized or initialization is in progress has no effect.
+     *
+     * @return future which completes when database is initialized or completes exceptionally if initialization failed
+     *
+     * @since v11.0.5 - 2026-10-17
+     */
+    public static CompletableFuture<Void> initializeInBackground() {
+        return INSTANCE.startBackgroundInit();
+    }
+
+    synchronized CompletableFuture<Void> startBackgroundInit() {
+        if (sessionFactory != null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        if (sessionFactoryFuture == null) {
+            CompletableFuture<SessionFactory> future = new CompletableFuture<>();
+            Thread initThread = new Thread(() -> {
+                try {
+                    future.complete(initDb());
+                } catch (Throwable _ex) {
+                    future.completeExceptionally(_ex);
+                }
+            }, "DbManager-Init");
+            initThread.setDaemon(true);
+            initThread.start();
+            sessionFactoryFuture = future;
+        }
+        return sessionFactoryFuture.thenApply(sf -> null);
+    }
+
+    /**
+     * Checks if the {@link SessionFactory} was already created (either by using the database or
+     * by a finished background initialization).
+     *
+     * @return true if initialized
+     * @since v11.0.5 - 2026-10-17
+     */
+    public static boolean isInitialized() {
+        return INSTANCE.initialized();
+    }
+
+    synchronized boolean initialized() {
+        return sessionFactory != null
+            || sessionFactoryFuture != null && sessionFactoryFuture.isDone()
+                && !sessionFactoryFuture.isCompletedExceptionally();
+    }
+
+    /**
+     * Configures hibernate's built-in connection pool.
+     * <p>
+     * The given number of connections will be opened when the database is initialized and
+     * the pool will not shrink below the minimum size. Has no effect if a different connection provider
+     * (like HikariCP or c3p0) is configured in the hibernate configuration.
+     * Must be called before the database is initialized.
+     *
+     * @param _minSize minimum (and initial) number of pooled connections
+     * @param _maxSize maximum number of pooled connections
+     *
+     * @since v11.0.5 - 2026-10-17
+     */
+    public static void configureConnectionPool(int _minSize, int _maxSize) {
+        INSTANCE.connectionPool(_minSize, _maxSize);
+    }
+
+    void connectionPool(int _minSize, int _maxSize) {
+        if (_minSize < 0 || _maxSize <= 0 || _minSize > _maxSize) {
+            throw new IllegalArgumentException("Invalid connection pool size: min=" + _minSize + ", max=" + _maxSize);
+        }
+        applyHibernateProperty(AvailableSettings.POOL_SIZE, String.valueOf(_maxSize));
+        applyHibernateProperty(DriverManagerConnectionProviderImpl.MIN_SIZE, String.valueOf(_minSize));
+        applyHibernateProperty(DriverManagerConnectionProviderImpl.INITIAL_SIZE, String.valueOf(_minSize));
+    }
+
     /**
      * Closes all database sessions and the related session factory.
      * Will de-initialize hibernate as well.
      */
     @Override
-    public void close() {
+    public synchronized void close() {
+        if (queryUtilPool != null) {
+            queryUtilPool.close();
+            queryUtilPool = null;
+        }
         if (queryUtil != null) {
             queryUtil.close();
             queryUtil = null;
         }
-        otherSessions.forEach(s -> s.closeSession());
-        otherSessions.clear();
+        otherSessions.closeAll();
+
+        if (sessionFactoryFuture != null) {
+            // background initialization still running or never consumed, wait for it to release the resources
+            try {
+                sessionFactory = sessionFactoryFuture.join();
+            } catch (CompletionException _ex) {
+                sessionFactory = null;
+            }
+            sessionFactoryFuture = null;
+        }
 
         if (sessionFactory != null) {
             sessionFactory.close();
@@ -277,4 +841,17 @@ public class DbManager implements Closeable {
         }
 
     }
+
+    /**
+     * Kind of database access used to select the database if a separate database for reading is configured.
+     *
+     * @author hypfvieh
+     * @since v11.0.5 - 2026-10-17
+     */
+    public enum DbAccess {
+        /** Reading access, may use the database configured with {@link DbManager#setReadDataSource(String)}. */
+        READ,
+        /** Writing access, always uses the default database. */
+        WRITE;
+    }
 }
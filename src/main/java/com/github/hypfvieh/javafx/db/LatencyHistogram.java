@@ -0,0 +1,135 @@
+package com.github.hypfvieh.javafx.db;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram for latencies with a resolution of one microsecond.
+ * <p>
+ * Values are stored in log-linear buckets (like HdrHistogram): every power of two is divided
+ * into {@value #SUB_BUCKETS} linear buckets, so the relative error of a recorded value is at most 12.5%
+ * while the whole range of a long fits into less than 500 counters.
+ * <p>
+ * Recording only uses atomic increments, so it can be called concurrently without blocking.
+ *
+ * @author hypfvieh
+ * @since v11.0.5 - 2026-10-17
+ */
+final class LatencyHistogram {
+    /** Number of linear buckets per power of two. */
+    static final int SUB_BUCKETS = 8;
+    private static final int SUB_BUCKET_BITS = 3;
+    /** Values below this limit get their own bucket. */
+    private static final int LINEAR_LIMIT = SUB_BUCKETS * 2;
+    private static final int BUCKET_COUNT = bucketIndex(Long.MAX_VALUE) + 1;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Record the given latency.
+     *
+     * @param _nanos latency in nanoseconds
+     */
+    void record(long _nanos) {
+        long micros = Math.max(0, _nanos / 1000);
+        buckets.incrementAndGet(bucketIndex(micros));
+        count.increment();
+        sum.add(micros);
+        max.accumulate(micros);
+    }
+
+    /**
+     * Copies the current values.
+     * As recording is not blocked while copying, the copy may be slightly inconsistent
+     * (e.g. total count not matching the sum of all buckets) when recording at the same time.
+     */
+    Snapshot snapshot() {
+        long[] counts = new long[BUCKET_COUNT];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = buckets.get(i);
+        }
+        return new Snapshot(counts, count.sum(), sum.sum(), max.get());
+    }
+
+    static int bucketIndex(long _micros) {
+        if (_micros < LINEAR_LIMIT) {
+            return (int) _micros;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(_micros) - SUB_BUCKET_BITS;
+        int subBucket = (int) (_micros >>> exponent) - SUB_BUCKETS;
+        return LINEAR_LIMIT + (exponent - 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Highest value (in microseconds) stored in the bucket with the given index.
+     */
+    static long bucketUpperBound(int _index) {
+        if (_index < LINEAR_LIMIT) {
+            return _index;
+        }
+        int exponent = (_index - LINEAR_LIMIT) / SUB_BUCKETS + 1;
+        long subBucket = (_index - LINEAR_LIMIT) % SUB_BUCKETS + SUB_BUCKETS;
+        long upper = ((subBucket + 1) << exponent) - 1;
+        return upper < 0 ? Long.MAX_VALUE : upper;
+    }
+
+    /**
+     * Immutable copy of a histogram.
+     */
+    static final class Snapshot {
+        private final long[] counts;
+        private final long count;
+        private final long sumMicros;
+        private final long maxMicros;
+
+        Snapshot(long[] _counts, long _count, long _sumMicros, long _maxMicros) {
+            counts = _counts;
+            count = _count;
+            sumMicros = _sumMicros;
+            maxMicros = _maxMicros;
+        }
+
+        long getCount() {
+            return count;
+        }
+
+        long getSumMicros() {
+            return sumMicros;
+        }
+
+        long getMaxMicros() {
+            return maxMicros;
+        }
+
+        /**
+         * Returns the value (in microseconds) below or equal to which the given percentage of all values are.
+         *
+         * @param _percentile percentile between 0 and 100
+         */
+        long getPercentileMicros(double _percentile) {
+            if (_percentile < 0 || _percentile > 100) {
+                throw new IllegalArgumentException("Percentile must be between 0 and 100");
+            }
+            long total = 0;
+            for (long c : counts) {
+                total += c;
+            }
+            if (total == 0) {
+                return 0;
+            }
+            long wanted = Math.max(1, (long) Math.ceil(total * _percentile / 100d));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= wanted) {
+                    return Math.min(bucketUpperBound(i), maxMicros);
+                }
+            }
+            return maxMicros;
+        }
+    }
+}
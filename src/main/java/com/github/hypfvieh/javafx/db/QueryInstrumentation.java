@@ -0,0 +1,29 @@
+package com.github.hypfvieh.javafx.db;
+
+/**
+ * Receives timing information about every query executed by a {@link QueryUtil}.
+ * <p>
+ * Implementations are called on the thread which executed the query, directly after the query finished,
+ * so they should return quickly and must be thread safe.
+ *
+ * @see QueryMetrics
+ * @see QueryUtil#setInstrumentation(QueryInstrumentation)
+ *
+ * @author hypfvieh
+ * @since v11.0.5 - 2026-10-17
+ */
+@FunctionalInterface
+public interface QueryInstrumentation {
+
+    /**
+     * Called after a query (or any other function executed in a session) has finished.
+     *
+     * @param _tag tag given by the caller, {@link QueryUtil#UNTAGGED} if no tag was given
+     * @param _durationNanos execution time in nanoseconds
+     * @param _rows number of rows returned (size of returned collection, 1 for other non-null values),
+     *          -1 if the executed function did not return anything
+     * @param _error exception thrown by the query, null if query was successful
+     */
+    void queryFinished(String _tag, long _durationNanos, long _rows, Throwable _error);
+
+}
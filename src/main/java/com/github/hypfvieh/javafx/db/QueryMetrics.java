@@ -0,0 +1,133 @@
+package com.github.hypfvieh.javafx.db;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link QueryInstrumentation} which records latency histograms and returned rows per query tag
+ * and logs queries taking longer than a configurable threshold.
+ * <p>
+ * Recording is lock-free, so one instance can be shared by all {@link QueryUtil} instances.
+ * Use {@link #snapshot()} to retrieve the current statistics (e.g. to show them in a diagnostics window).
+ * <p>
+ * Example:
+ * <pre>
+ * QueryMetrics metrics = new QueryMetrics(Duration.ofMillis(500));
+ * DbManager.setQueryInstrumentation(metrics);
+ *
+ * DbManager.getQueryUtil().queryInSession("loadCustomers", s -&gt; s.createQuery("from Customer", Customer.class).list());
+ *
+ * metrics.snapshot().values().forEach(System.out::println);
+ * </pre>
+ *
+ * @author hypfvieh
+ * @since v11.0.5 - 2026-10-17
+ */
+public class QueryMetrics implements QueryInstrumentation {
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final Map<String, TagMetrics> metrics = new ConcurrentHashMap<>();
+
+    private volatile long slowQueryThresholdNanos;
+
+    /**
+     * Create a new instance without slow query logging.
+     */
+    public QueryMetrics() {
+        this(null);
+    }
+
+    /**
+     * Create a new instance.
+     *
+     * @param _slowQueryThreshold queries taking longer will be logged with level WARN, null to disable
+     */
+    public QueryMetrics(Duration _slowQueryThreshold) {
+        setSlowQueryThreshold(_slowQueryThreshold);
+    }
+
+    /**
+     * Set the time after which a query is considered slow and will be logged.
+     *
+     * @param _threshold threshold, null to disable slow query logging
+     */
+    public void setSlowQueryThreshold(Duration _threshold) {
+        slowQueryThresholdNanos = _threshold == null ? -1 : _threshold.toNanos();
+    }
+
+    public Duration getSlowQueryThreshold() {
+        long threshold = slowQueryThresholdNanos;
+        return threshold < 0 ? null : Duration.ofNanos(threshold);
+    }
+
+    @Override
+    public void queryFinished(String _tag, long _durationNanos, long _rows, Throwable _error) {
+        String tag = _tag == null ? QueryUtil.UNTAGGED : _tag;
+        TagMetrics tagMetrics = metrics.computeIfAbsent(tag, t -> new TagMetrics());
+
+        tagMetrics.latencies.record(_durationNanos);
+        if (_rows > 0) {
+            tagMetrics.rows.add(_rows);
+            tagMetrics.maxRows.accumulate(_rows);
+        }
+        if (_error != null) {
+            tagMetrics.errors.increment();
+        }
+
+        long threshold = slowQueryThresholdNanos;
+        if (threshold >= 0 && _durationNanos > threshold) {
+            tagMetrics.slow.increment();
+            logger.warn("Slow query [{}] took {} ms (threshold {} ms), rows: {}{}", tag, _durationNanos / 1_000_000,
+                threshold / 1_000_000, _rows < 0 ? "n/a" : _rows, _error == null ? "" : ", failed: " + _error);
+        }
+    }
+
+    /**
+     * Returns the statistics of all recorded tags, sorted by tag.
+     *
+     * @return unmodifiable map of tag to statistics
+     */
+    public Map<String, QueryStatistics> snapshot() {
+        Map<String, QueryStatistics> result = new TreeMap<>();
+        metrics.forEach((tag, m) -> result.put(tag, m.snapshot(tag)));
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * Returns the statistics of the given tag.
+     *
+     * @param _tag tag
+     * @return statistics or null if no query with this tag was recorded
+     */
+    public QueryStatistics getStatistics(String _tag) {
+        TagMetrics tagMetrics = metrics.get(_tag);
+        return tagMetrics == null ? null : tagMetrics.snapshot(_tag);
+    }
+
+    /**
+     * Removes all recorded values.
+     */
+    public void reset() {
+        metrics.clear();
+    }
+
+    private static final class TagMetrics {
+        private final LatencyHistogram latencies = new LatencyHistogram();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder slow = new LongAdder();
+        private final LongAdder rows = new LongAdder();
+        private final LongAccumulator maxRows = new LongAccumulator(Math::max, 0);
+
+        QueryStatistics snapshot(String _tag) {
+            return new QueryStatistics(_tag, latencies.snapshot(), errors.sum(), slow.sum(), rows.sum(), maxRows.get());
+        }
+    }
+}
@@ -0,0 +1,289 @@
+package com.github.hypfvieh.javafx.db;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Size bounded LRU cache for query results used by {@link QueryUtil#queryCached(Class, String, Map, Class...)}.
+ * <p>
+ * Results are cached by query string, result type and query parameters.
+ * Every entry expires after the configured time to live and is removed as soon as one of the
+ * entity classes it depends on is written using a {@link QueryUtil} which uses this cache.
+ * Only entities saved, updated or deleted through a session are detected, bulk updates done by
+ * HQL or native queries (e.g. {@code UPDATE Foo SET ...}) do not invalidate any results.
+ * Use {@link #invalidate(Class)} after running such queries.
+ * <p>
+ * Cached entities are loaded in a separate session which is closed afterwards, so they are detached.
+ * The same instances are shared between all callers, so this cache should only be used for
+ * data which is not modified by the caller (e.g. reference data or lookup tables).
+ *
+ * @author hypfvieh
+ * @since v11.0.5 - 2026-10-17
+ */
+public class QueryResultCache {
+    private final int maxSize;
+    private final long ttlNanos;
+
+    private final Map<CacheKey, CacheEntry> entries;
+
+    /** Incremented on every invalidation. */
+    private long generation;
+    /** Generation in which each entity class was invalidated the last time. */
+    private final Map<Class<?>, Long> invalidatedGenerations = new HashMap<>();
+    /** Generation in which the cache was cleared the last time. */
+    private long clearedGeneration;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    /**
+     * Create a new cache.
+     *
+     * @param _maxSize maximum number of cached query results
+     * @param _ttl time after which a cached result expires, null to never expire
+     */
+    public QueryResultCache(int _maxSize, Duration _ttl) {
+        if (_maxSize <= 0) {
+            throw new IllegalArgumentException("Cache size must be greater than 0");
+        }
+        maxSize = _maxSize;
+        ttlNanos = _ttl == null ? -1 : _ttl.toNanos();
+        entries = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CacheKey, CacheEntry> _eldest) {
+                if (size() > maxSize) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached result for the given key or null if no valid result is cached.
+     */
+    synchronized List<?> get(CacheKey _key) {
+        CacheEntry entry = entries.get(_key);
+        if (entry != null && entry.isExpired(System.nanoTime())) {
+            entries.remove(_key);
+            evictions.incrementAndGet();
+            entry = null;
+        }
+        if (entry == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return entry.result;
+    }
+
+    /**
+     * Returns the current invalidation generation.
+     * Has to be retrieved before executing a query whose result will be stored using
+     * {@link #put(CacheKey, List, Set, long)}.
+     */
+    synchronized long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Stores the given result.
+     *
+     * @return unmodifiable copy of the result which was stored
+     */
+    synchronized <T> List<T> put(CacheKey _key, List<T> _result, Set<Class<?>> _dependencies) {
+        return put(_key, _result, _dependencies, generation);
+    }
+
+    /**
+     * Stores the given result unless one of its dependencies was invalidated after the given generation
+     * (the result might have been read before the write was committed).
+     *
+     * @return unmodifiable copy of the result, which may not have been stored
+     */
+    synchronized <T> List<T> put(CacheKey _key, List<T> _result, Set<Class<?>> _dependencies, long _generation) {
+        List<T> copy = Collections.unmodifiableList(new ArrayList<>(_result));
+        if (clearedGeneration > _generation) {
+            return copy;
+        }
+        for (Entry<Class<?>, Long> invalidated : invalidatedGenerations.entrySet()) {
+            if (invalidated.getValue() > _generation && CacheEntry.related(_dependencies, invalidated.getKey())) {
+                return copy;
+            }
+        }
+        long expires = ttlNanos < 0 ? -1 : System.nanoTime() + ttlNanos;
+        entries.put(_key, new CacheEntry(copy, _dependencies, expires));
+        return copy;
+    }
+
+    /**
+     * Removes all cached results depending on the given entity class, its super or sub classes.
+     *
+     * @param _entityClass entity class
+     */
+    public void invalidate(Class<?> _entityClass) {
+        if (_entityClass == null) {
+            return;
+        }
+        invalidate(List.of(_entityClass));
+    }
+
+    /**
+     * Removes all cached results depending on any of the given entity classes, their super or sub classes.
+     *
+     * @param _entityClasses entity classes
+     */
+    public synchronized void invalidate(Collection<Class<?>> _entityClasses) {
+        if (_entityClasses == null || _entityClasses.isEmpty()) {
+            return;
+        }
+        generation++;
+        for (Class<?> clz : _entityClasses) {
+            invalidatedGenerations.put(clz, generation);
+        }
+        Iterator<CacheEntry> it = entries.values().iterator();
+        while (it.hasNext()) {
+            if (it.next().dependsOn(_entityClasses)) {
+                it.remove();
+                invalidations.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Removes all cached results.
+     */
+    public synchronized void clear() {
+        clearedGeneration = ++generation;
+        entries.clear();
+    }
+
+    /**
+     * Number of currently cached results.
+     * @return int
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Number of queries answered from cache.
+     * @return long
+     */
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    /**
+     * Number of queries which had to be executed on the database.
+     * @return long
+     */
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    /**
+     * Number of results removed because they expired or the cache was full.
+     * @return long
+     */
+    public long getEvictionCount() {
+        return evictions.get();
+    }
+
+    /**
+     * Number of results removed because a dependent entity was written.
+     * @return long
+     */
+    public long getInvalidationCount() {
+        return invalidations.get();
+    }
+
+    /**
+     * Key of a cached query result.
+     */
+    static final class CacheKey {
+        private final Class<?> resultType;
+        private final String query;
+        private final Map<String, ?> parameters;
+
+        CacheKey(Class<?> _resultType, String _query, Map<String, ?> _parameters) {
+            resultType = _resultType;
+            query = _query;
+            parameters = _parameters == null || _parameters.isEmpty() ? Map.of() : new TreeMap<>(_parameters);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(resultType, query, parameters);
+        }
+
+        @Override
+        public boolean equals(Object _obj) {
+            if (this == _obj) {
+                return true;
+            }
+            if (!(_obj instanceof CacheKey)) {
+                return false;
+            }
+            CacheKey other = (CacheKey) _obj;
+            return Objects.equals(resultType, other.resultType)
+                    && Objects.equals(query, other.query)
+                    && Objects.equals(parameters, other.parameters);
+        }
+    }
+
+    private static final class CacheEntry {
+        private final List<?> result;
+        private final Set<Class<?>> dependencies;
+        private final long expires;
+
+        CacheEntry(List<?> _result, Set<Class<?>> _dependencies, long _expires) {
+            result = _result;
+            dependencies = _dependencies;
+            expires = _expires;
+        }
+
+        boolean isExpired(long _now) {
+            return expires >= 0 && _now - expires > 0;
+        }
+
+        boolean dependsOn(Collection<Class<?>> _classes) {
+            for (Class<?> clz : _classes) {
+                if (related(dependencies, clz)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        static boolean related(Set<Class<?>> _dependencies, Class<?> _clz) {
+            for (Class<?> dep : _dependencies) {
+                if (dep.isAssignableFrom(_clz) || _clz.isAssignableFrom(dep)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
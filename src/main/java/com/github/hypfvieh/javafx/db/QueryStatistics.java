@@ -0,0 +1,106 @@
+package com.github.hypfvieh.javafx.db;
+
+import java.time.Duration;
+
+/**
+ * Immutable snapshot of the statistics of all queries recorded by {@link QueryMetrics} for one tag.
+ * <p>
+ * Latencies have a resolution of one microsecond and a relative error of at most 12.5%.
+ *
+ * @author hypfvieh
+ * @since v11.0.5 - 2026-10-17
+ */
+public final class QueryStatistics {
+    private final String tag;
+    private final LatencyHistogram.Snapshot latencies;
+    private final long errorCount;
+    private final long slowCount;
+    private final long rows;
+    private final long maxRows;
+
+    QueryStatistics(String _tag, LatencyHistogram.Snapshot _latencies, long _errorCount, long _slowCount, long _rows, long _maxRows) {
+        tag = _tag;
+        latencies = _latencies;
+        errorCount = _errorCount;
+        slowCount = _slowCount;
+        rows = _rows;
+        maxRows = _maxRows;
+    }
+
+    public String getTag() {
+        return tag;
+    }
+
+    /**
+     * Number of executed queries (including failed queries).
+     * @return long
+     */
+    public long getCount() {
+        return latencies.getCount();
+    }
+
+    /**
+     * Number of queries which failed with an exception.
+     * @return long
+     */
+    public long getErrorCount() {
+        return errorCount;
+    }
+
+    /**
+     * Number of queries which took longer than the slow query threshold.
+     * @return long
+     */
+    public long getSlowCount() {
+        return slowCount;
+    }
+
+    /**
+     * Total number of rows returned by all queries.
+     * @return long
+     */
+    public long getTotalRows() {
+        return rows;
+    }
+
+    /**
+     * Highest number of rows returned by a single query.
+     * @return long
+     */
+    public long getMaxRows() {
+        return maxRows;
+    }
+
+    public Duration getTotalTime() {
+        return Duration.ofNanos(latencies.getSumMicros() * 1000);
+    }
+
+    public Duration getMeanTime() {
+        long count = getCount();
+        return count == 0 ? Duration.ZERO : Duration.ofNanos(latencies.getSumMicros() * 1000 / count);
+    }
+
+    public Duration getMaxTime() {
+        return Duration.ofNanos(latencies.getMaxMicros() * 1000);
+    }
+
+    /**
+     * Returns the time below or equal to which the given percentage of all queries finished.
+     *
+     * @param _percentile percentile between 0 and 100 (e.g. 99.9)
+     * @return Duration
+     */
+    public Duration getPercentile(double _percentile) {
+        return Duration.ofNanos(latencies.getPercentileMicros(_percentile) * 1000);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [tag=" + tag + ", count=" + getCount()
+            + ", errors=" + errorCount + ", slow=" + slowCount + ", rows=" + rows
+            + ", mean=" + getMeanTime().toNanos() / 1000 + "µs"
+            + ", p50=" + getPercentile(50).toNanos() / 1000 + "µs"
+            + ", p99=" + getPercentile(99).toNanos() / 1000 + "µs"
+            + ", max=" + getMaxTime().toNanos() / 1000 + "µs]";
+    }
+}
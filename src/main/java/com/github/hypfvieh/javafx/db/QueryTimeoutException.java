@@ -0,0 +1,32 @@
+package com.github.hypfvieh.javafx.db;
+
+import java.time.Duration;
+
+/**
+ * Thrown by {@link QueryUtil} if a database action did not finish within its timeout.
+ * The running statement has been cancelled and any pending transaction rolled back.
+ *
+ * @author hypfvieh
+ * @since v11.0.5 - 2026-10-17
+ */
+public class QueryTimeoutException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    private final String tag;
+    private final Duration timeout;
+
+    public QueryTimeoutException(String _tag, Duration _timeout, Throwable _cause) {
+        super("Database action [" + _tag + "] did not finish within " + _timeout.toMillis() + " ms", _cause);
+        tag = _tag;
+        timeout = _timeout;
+    }
+
+    public String getTag() {
+        return tag;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+}
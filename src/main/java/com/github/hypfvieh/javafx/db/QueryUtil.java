@@ -1,17 +1,51 @@
 package com.github.hypfvieh.javafx.db;
 
 import java.io.Closeable;
+import java.io.Serializable;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
+import org.hibernate.CacheMode;
+import org.hibernate.FlushMode;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
 import org.hibernate.Session;
 import org.hibernate.SessionFactory;
 import org.hibernate.Transaction;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.query.Query;
+
+import com.github.hypfvieh.javafx.db.QueryResultCache.CacheKey;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import jakarta.persistence.NoResultException;
 import jakarta.persistence.TypedQuery;
+import javafx.application.Platform;
 
 /**
  * Utility to query the database and taking care of exceptions and transactions.
@@ -22,15 +56,63 @@ import jakarta.persistence.TypedQuery;
  * @since v11.0.0 - 2020-09-11
  */
 public class QueryUtil implements Closeable {
+    /** Default number of rows fetched from the database and passed to the consumer in streaming methods. */
+    public static final int DEFAULT_STREAM_CHUNK_SIZE = 500;
+    /** Default number of entities sent to the database in one JDBC batch by batch write methods. */
+    public static final int DEFAULT_BATCH_SIZE = 50;
+    /** Default number of entities written in one transaction by batch write methods. */
+    public static final int DEFAULT_COMMIT_SIZE = 1000;
+    /** Default number of IDs used in one IN query by {@link #loadAll(Class, Collection)}. Stays below the parameter limits of common databases. */
+    public static final int DEFAULT_LOAD_BATCH_SIZE = 500;
+    /** Tag reported to {@link QueryInstrumentation} for queries executed without a tag. */
+    public static final String UNTAGGED = "untagged";
+
+    private static volatile Executor defaultAsyncExecutor;
+
     private final Logger logger;
     private Session defaultSession;
 
     private final SessionFactory dbFactory;
 
+    private final boolean readOnly;
+
+    private Executor asyncExecutor;
+
+    private Consumer<QueryUtil> closeListener;
+
+    private Consumer<Session> sessionListener;
+
+    private volatile QueryResultCache resultCache;
+
+    private volatile QueryInstrumentation instrumentation;
+
+    private volatile Duration defaultTimeout;
+
+    private volatile RetryPolicy retryPolicy;
+
     public QueryUtil(SessionFactory _dbFactory) {
+        this(_dbFactory, false);
+    }
+
+    /**
+     * Create a new instance.
+     * <p>
+     * If read-only mode is enabled, all sessions used by this instance will load entities read-only
+     * and will never be flushed automatically. Hibernate will therefore skip dirty checking of loaded entities.
+     * Checking for (and rolling back) pending transactions before each call is skipped as well.
+     * Methods which require a transaction will throw {@link IllegalStateException} in read-only mode.
+     * </p>
+     *
+     * @param _dbFactory session factory
+     * @param _readOnly true to enable read-only mode
+     *
+     * @since v11.0.5 - 2026-10-17
+     */
+    public QueryUtil(SessionFactory _dbFactory, boolean _readOnly) {
         logger = LoggerFactory.getLogger(getClass());
         dbFactory = _dbFactory;
-        defaultSession = _dbFactory.openSession();
+        readOnly = _readOnly;
+        defaultSession = openSession();
     }
 
 
@@ -78,6 +160,36 @@ public class QueryUtil implements Closeable {
         executeInSession(_toExecute, true);
     }
 
+    /**
+     * Execute the given Consumer in the default database session.
+     * Re-throws all exceptions.
+     * <br><br>
+     * The given tag is reported to the {@link QueryInstrumentation} of this instance.
+     *
+     * @param _tag tag identifying the executed action
+     * @param _toExecute consumer to execute
+     * @since v11.0.5 - 2026-10-17
+     */
+    public void executeInSession(String _tag, Consumer<Session> _toExecute) {
+        executeInSession(_tag, null, _toExecute);
+    }
+
+    /**
+     * Execute the given Consumer in the default database session.
+     * Re-throws all exceptions.
+     * <br><br>
+     * If the consumer does not finish within the given timeout, the running statement is cancelled
+     * and a {@link QueryTimeoutException} is thrown.
+     *
+     * @param _tag tag identifying the executed action
+     * @param _timeout timeout, null to use the default timeout
+     * @param _toExecute consumer to execute
+     * @since v11.0.5 - 2026-10-17
+     */
+    public void executeInSession(String _tag, Duration _timeout, Consumer<Session> _toExecute) {
+        executeSession(_tag, _timeout, defaultSession, _toExecute, false);
+    }
+
 
     /**
      * Execute the given Consumer in the database session.
@@ -119,6 +231,36 @@ public class QueryUtil implements Closeable {
         executeInNewSession(_toExecute, true);
     }
 
+    /**
+     * Execute the given Consumer in a new database session which is closed afterwards.
+     * Re-throws all exceptions.
+     * <br><br>
+     * The given tag is reported to the {@link QueryInstrumentation} of this instance.
+     *
+     * @param _tag tag identifying the executed action
+     * @param _toExecute consumer to execute
+     * @since v11.0.5 - 2026-10-17
+     */
+    public void executeInNewSession(String _tag, Consumer<Session> _toExecute) {
+        executeInNewSession(_tag, null, _toExecute);
+    }
+
+    /**
+     * Execute the given Consumer in a new database session which is closed afterwards.
+     * Re-throws all exceptions.
+     * <br><br>
+     * If the consumer does not finish within the given timeout, the running statement is cancelled
+     * and a {@link QueryTimeoutException} is thrown.
+     *
+     * @param _tag tag identifying the executed action
+     * @param _timeout timeout, null to use the default timeout
+     * @param _toExecute consumer to execute
+     * @since v11.0.5 - 2026-10-17
+     */
+    public void executeInNewSession(String _tag, Duration _timeout, Consumer<Session> _toExecute) {
+        executeSession(_tag, _timeout, null, _toExecute, false);
+    }
+
     /**
      * Execute the given Consumer in the database session.
      * Optionally catch all exceptions which might be thrown.
@@ -132,20 +274,51 @@ public class QueryUtil implements Closeable {
      * @param _catchAllExceptions true to catch all exception, false to re-throw
      */
     public void executeSession(Session _session, Consumer<Session> _toExecute, boolean _catchAllExceptions) {
+        executeSession(UNTAGGED, null, _session, _toExecute, _catchAllExceptions);
+    }
+
+    private void executeSession(String _tag, Duration _timeout, Session _session, Consumer<Session> _toExecute, boolean _catchAllExceptions) {
+        executeSession(_tag, _timeout, _session, _toExecute, _catchAllExceptions, true);
+    }
+
+    /**
+     * Executes the consumer on the given session.
+     *
+     * @param _logErrors false if the caller logs exceptions itself (e.g. because the action may be retried)
+     */
+    private void executeSession(String _tag, Duration _timeout, Session _session, Consumer<Session> _toExecute, boolean _catchAllExceptions,
+            boolean _logErrors) {
         Session session = getOrCreateSession(_session);
+        QueryInstrumentation instr = instrumentation;
+        long start = instr == null ? 0 : System.nanoTime();
+        Duration timeout = _timeout != null ? _timeout : defaultTimeout;
+        QueryWatchdog watchdog = null;
         try {
             // reset any transaction which may be pending on this session
-            fixOpenTransactions(session);
+            prepareSession(session);
+            watchdog = QueryWatchdog.start(session, timeout);
             _toExecute.accept(session);
+            stopWatchdog(watchdog);
             if (_session == null && session.isConnected()) {
                 session.close();
             }
-
+            if (instr != null) {
+                recordQuery(instr, _tag, start, -1, null);
+            }
         } catch (RuntimeException _ex) {
-            logger.error("Error while performing database action.", _ex);
+            RuntimeException ex = handleTimeout(watchdog, _tag, timeout, _ex);
+            if (instr != null) {
+                recordQuery(instr, _tag, start, -1, ex);
+            }
+            if (_logErrors) {
+                logger.error("Error while performing database action.", ex);
+            }
             fixOpenTransactions(session);
+            if (_session == null) {
+                session.close();
+            }
             if (!_catchAllExceptions) {
-                throw _ex;
+                throw ex;
             }
         }
     }
@@ -156,12 +329,58 @@ public class QueryUtil implements Closeable {
      * @param _func consumer to execute (will receive current session)
      */
     public void doInTransaction(Consumer<Session> _func) {
+        doInTransaction(UNTAGGED, _func);
+    }
+
+    /**
+     * Execute given function in default session wrapped in a transaction.
+     * If function throws a {@link RuntimeException}, transaction is rolled back.
+     * <br><br>
+     * If the transaction fails and the given policy allows it, the function is executed again
+     * in a new session (see {@link #setRetryPolicy(RetryPolicy)}).
+     *
+     * @param _func consumer to execute (will receive current session)
+     * @param _retryPolicy policy to use instead of the policy of this instance, null to never retry
+     * @since v11.0.5 - 2026-10-17
+     */
+    public void doInTransaction(Consumer<Session> _func, RetryPolicy _retryPolicy) {
         if (_func == null) {
             return;
         }
-        executeInSession(session -> {
-            doTransaction(_func, session);
-        });
+        doTransactionWithRetry(UNTAGGED, null, defaultSession, _func, _retryPolicy);
+    }
+
+    /**
+     * Execute given function in default session wrapped in a transaction.
+     * If function throws a {@link RuntimeException}, transaction is rolled back.
+     * <br><br>
+     * The given tag is reported to the {@link QueryInstrumentation} of this instance.
+     *
+     * @param _tag tag identifying the executed action
+     * @param _func consumer to execute (will receive current session)
+     * @since v11.0.5 - 2026-10-17
+     */
+    public void doInTransaction(String _tag, Consumer<Session> _func) {
+        doInTransaction(_tag, null, _func);
+    }
+
+    /**
+     * Execute given function in default session wrapped in a transaction.
+     * If function throws a {@link RuntimeException}, transaction is rolled back.
+     * <br><br>
+     * If the function does not finish within the given timeout, the running statement is cancelled,
+     * the transaction is rolled back and a {@link QueryTimeoutException} is thrown.
+     *
+     * @param _tag tag identifying the executed action
+     * @param _timeout timeout, null to use the default timeout
+     * @param _func consumer to execute (will receive current session)
+     * @since v11.0.5 - 2026-10-17
+     */
+    public void doInTransaction(String _tag, Duration _timeout, Consumer<Session> _func) {
+        if (_func == null) {
+            return;
+        }
+        doTransactionWithRetry(_tag, _timeout, defaultSession, _func, retryPolicy);
     }
 
     /**
@@ -170,12 +389,92 @@ public class QueryUtil implements Closeable {
      * @param _func consumer to execute (will receive current session)
      */
     public void doInTransactionInNewSession(Consumer<Session> _func) {
+        doInTransactionInNewSession(UNTAGGED, _func);
+    }
+
+    /**
+     * Execute given function in a new session wrapped in a transaction.
+     * If function throws a {@link RuntimeException}, transaction is rolled back.
+     * <br><br>
+     * If the transaction fails and the given policy allows it, the function is executed again
+     * in another new session (see {@link #setRetryPolicy(RetryPolicy)}).
+     *
+     * @param _func consumer to execute (will receive current session)
+     * @param _retryPolicy policy to use instead of the policy of this instance, null to never retry
+     * @since v11.0.5 - 2026-10-17
+     */
+    public void doInTransactionInNewSession(Consumer<Session> _func, RetryPolicy _retryPolicy) {
         if (_func == null) {
             return;
         }
-        executeInNewSession(session -> {
-            doTransaction(_func, session);
-        });
+        doTransactionWithRetry(UNTAGGED, null, null, _func, _retryPolicy);
+    }
+
+    /**
+     * Execute given function in a new session wrapped in a transaction.
+     * If function throws a {@link RuntimeException}, transaction is rolled back.
+     * <br><br>
+     * The given tag is reported to the {@link QueryInstrumentation} of this instance.
+     *
+     * @param _tag tag identifying the executed action
+     * @param _func consumer to execute (will receive current session)
+     * @since v11.0.5 - 2026-10-17
+     */
+    public void doInTransactionInNewSession(String _tag, Consumer<Session> _func) {
+        doInTransactionInNewSession(_tag, null, _func);
+    }
+
+    /**
+     * Execute given function in a new session wrapped in a transaction.
+     * If function throws a {@link RuntimeException}, transaction is rolled back.
+     * <br><br>
+     * If the function does not finish within the given timeout, the running statement is cancelled,
+     * the transaction is rolled back and a {@link QueryTimeoutException} is thrown.
+     *
+     * @param _tag tag identifying the executed action
+     * @param _timeout timeout, null to use the default timeout
+     * @param _func consumer to execute (will receive current session)
+     * @since v11.0.5 - 2026-10-17
+     */
+    public void doInTransactionInNewSession(String _tag, Duration _timeout, Consumer<Session> _func) {
+        if (_func == null) {
+            return;
+        }
+        doTransactionWithRetry(_tag, _timeout, null, _func, retryPolicy);
+    }
+
+    /**
+     * Executes the function in a transaction and retries failed transactions as allowed by the given policy.
+     * Every retry uses a new session, as the failed session may contain stale entities.
+     * A transaction pending on the given session is rolled back before the first attempt (see {@link #prepareSession(Session)}),
+     * so the function always runs in its own transaction.
+     * <p>
+     * Failed attempts which are retried are logged as warning, only the finally thrown exception is logged as error.
+     */
+    private void doTransactionWithRetry(String _tag, Duration _timeout, Session _session, Consumer<Session> _func, RetryPolicy _retryPolicy) {
+        Session session = _session;
+        for (int attempt = 1;; attempt++) {
+            try {
+                executeSession(_tag, _timeout, session, s -> doTransaction(_func, s), false, false);
+                return;
+            } catch (RuntimeException _ex) {
+                if (_retryPolicy == null || !_retryPolicy.shouldRetry(_ex, attempt)) {
+                    logger.error("Error while performing database action.", _ex);
+                    throw _ex;
+                }
+                long delay = _retryPolicy.getDelayMillis(attempt);
+                logger.warn("Transaction [{}] failed ({}), retrying in {} ms (attempt {}/{})",
+                    _tag, _ex, delay, attempt + 1, _retryPolicy.getMaxAttempts());
+                try {
+                    Thread.sleep(delay);
+                } catch (InterruptedException _iex) {
+                    Thread.currentThread().interrupt();
+                    logger.error("Error while performing database action.", _ex);
+                    throw _ex;
+                }
+                session = null;
+            }
+        }
     }
 
     /**
@@ -193,6 +492,7 @@ public class QueryUtil implements Closeable {
      * @param _session session
      */
     private void doTransaction(Consumer<Session> _func, Session _session) {
+        checkWritable();
         Transaction transaction = _session.getTransaction();
         boolean wasActive = transaction.isActive();
         if (!wasActive) {
@@ -209,6 +509,194 @@ public class QueryUtil implements Closeable {
         }
     }
 
+    /**
+     * Persists all given entities using JDBC batching.
+     *
+     * @param _entities entities to persist
+     * @return result containing number of written rows and throughput
+     * @param <T> type of entity
+     *
+     * @see #batchWrite(Iterable, BiConsumer, int, int, int)
+     * @since v11.0.5 - 2026-10-17
+     */
+    public <T> BatchWriteResult batchPersist(Iterable<T> _entities) {
+        return batchWrite(_entities, (session, entity) -> session.persist(entity), DEFAULT_BATCH_SIZE, DEFAULT_COMMIT_SIZE, 0);
+    }
+
+    /**
+     * Saves or updates all given entities using JDBC batching.
+     *
+     * @param _entities entities to save or update
+     * @return result containing number of written rows and throughput
+     * @param <T> type of entity
+     *
+     * @see #batchWrite(Iterable, BiConsumer, int, int, int)
+     * @since v11.0.5 - 2026-10-17
+     */
+    public <T> BatchWriteResult batchSaveOrUpdate(Iterable<T> _entities) {
+        return batchWrite(_entities, (session, entity) -> session.saveOrUpdate(entity), DEFAULT_BATCH_SIZE, DEFAULT_COMMIT_SIZE, 0);
+    }
+
+    /**
+     * Writes all entities of the given stream using JDBC batching.
+     *
+     * @param _entities stream of entities, will be consumed
+     * @param _writer called for every entity to write it using the given session (e.g. persist or merge)
+     * @param _batchSize JDBC batch size, session will be flushed and cleared after this number of entities
+     * @param _commitSize number of entities written in one transaction
+     * @param _maxRetries number of retries of a failed transaction
+     * @return result containing number of written rows and throughput
+     * @param <T> type of entity
+     *
+     * @see #batchWrite(Iterable, BiConsumer, int, int, int)
+     * @since v11.0.5 - 2026-10-17
+     */
+    public <T> BatchWriteResult batchWrite(Stream<T> _entities, BiConsumer<Session, T> _writer, int _batchSize, int _commitSize, int _maxRetries) {
+        Objects.requireNonNull(_entities, "Entities required");
+        return batchWrite(_entities::iterator, _writer, _batchSize, _commitSize, _maxRetries);
+    }
+
+    /**
+     * Writes all given entities using JDBC batching.
+     * <p>
+     * Each chunk of entities is written in a new session and committed in its own transaction.
+     * The session uses the given JDBC batch size and is flushed and cleared every {@code _batchSize}
+     * entities, so the persistence context does not grow while importing large amounts of data.
+     * Enabling {@code hibernate.order_inserts} and {@code hibernate.order_updates} in the hibernate configuration
+     * will further improve batching when different entity types are written.
+     * </p>
+     * <p>
+     * If writing a chunk fails, the transaction is rolled back and the chunk is retried in a new session
+     * up to {@code _maxRetries} times. Therefore the writer should be idempotent.
+     * The same entity objects are written again, so identifiers and versions generated by the failed attempt
+     * are still set (e.g. persist would fail with a detached entity and saveOrUpdate would update rows never inserted).
+     * A chunk is therefore not retried if an identifier or version of one of its entities was changed by the failed attempt,
+     * so retries only work for writers which do not rely on generated identifiers or versions.
+     * Chunks which were committed before a chunk finally failed will not be rolled back.
+     * </p>
+     *
+     * @param _entities entities to write
+     * @param _writer called for every entity to write it using the given session (e.g. persist or merge)
+     * @param _batchSize JDBC batch size, session will be flushed and cleared after this number of entities
+     * @param _commitSize number of entities written in one transaction
+     * @param _maxRetries number of retries of a failed transaction
+     * @return result containing number of written rows and throughput
+     * @param <T> type of entity
+     *
+     * @since v11.0.5 - 2026-10-17
+     */
+    public <T> BatchWriteResult batchWrite(Iterable<T> _entities, BiConsumer<Session, T> _writer, int _batchSize, int _commitSize, int _maxRetries) {
+        Objects.requireNonNull(_entities, "Entities required");
+        Objects.requireNonNull(_writer, "Writer required");
+        checkWritable();
+
+        int batchSize = _batchSize <= 0 ? DEFAULT_BATCH_SIZE : _batchSize;
+        int commitSize = _commitSize <= 0 ? DEFAULT_COMMIT_SIZE : Math.max(_commitSize, batchSize);
+        int maxRetries = Math.max(0, _maxRetries);
+
+        long start = System.nanoTime();
+        long rows = 0;
+        int chunks = 0;
+        int retries = 0;
+
+        List<T> chunk = new ArrayList<>(commitSize);
+        for (T entity : _entities) {
+            chunk.add(entity);
+            if (chunk.size() >= commitSize) {
+                retries += writeChunk(chunk, _writer, batchSize, maxRetries);
+                rows += chunk.size();
+                chunks++;
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            retries += writeChunk(chunk, _writer, batchSize, maxRetries);
+            rows += chunk.size();
+            chunks++;
+        }
+
+        BatchWriteResult result = new BatchWriteResult(rows, chunks, retries, Duration.ofNanos(System.nanoTime() - start));
+        logger.info("Batch write of {} rows in {} chunks finished in {} ms ({} rows/sec)",
+                rows, chunks, result.getDuration().toMillis(), String.format("%.1f", result.getRowsPerSecond()));
+        return result;
+    }
+
+    /**
+     * Writes the given chunk in a new session and transaction, retrying on failure.
+     *
+     * @return number of retries needed
+     */
+    private <T> int writeChunk(List<T> _chunk, BiConsumer<Session, T> _writer, int _batchSize, int _maxRetries) {
+        int attempt = 0;
+        List<Object> initialState = null;
+        while (true) {
+            Session session = createNewSession();
+            Transaction transaction = null;
+            try {
+                if (attempt == 0 && _maxRetries > 0) {
+                    initialState = getIdentityState(session, _chunk);
+                }
+                session.setJdbcBatchSize(_batchSize);
+                session.setCacheMode(CacheMode.IGNORE);
+                transaction = session.beginTransaction();
+
+                int count = 0;
+                for (T entity : _chunk) {
+                    _writer.accept(session, entity);
+                    if (++count % _batchSize == 0) {
+                        session.flush();
+                        session.clear();
+                    }
+                }
+                session.flush();
+                session.clear();
+                transaction.commit();
+                return attempt;
+            } catch (RuntimeException _ex) {
+                if (transaction != null && transaction.isActive()) {
+                    try {
+                        transaction.rollback();
+                    } catch (RuntimeException _rollbackEx) {
+                        logger.debug("Rollback of failed batch chunk failed", _rollbackEx);
+                    }
+                }
+                if (attempt >= _maxRetries) {
+                    logger.error("Error while writing batch of {} entities.", _chunk.size(), _ex);
+                    throw _ex;
+                } else if (initialState != null && !initialState.equals(getIdentityState(session, _chunk))) {
+                    logger.error("Error while writing batch of {} entities, not retried because identifiers or versions were generated.",
+                        _chunk.size(), _ex);
+                    throw _ex;
+                }
+                attempt++;
+                logger.warn("Writing batch of {} entities failed, retrying ({}/{})", _chunk.size(), attempt, _maxRetries, _ex);
+            } finally {
+                if (session.isOpen()) {
+                    session.close();
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns identifier and version of all given entities, so values assigned by a failed write can be detected.
+     * Objects which are no entities are represented by null.
+     */
+    private static <T> List<Object> getIdentityState(Session _session, List<T> _chunk) {
+        SessionImplementor sessionImpl = (SessionImplementor) _session;
+        List<Object> state = new ArrayList<>(_chunk.size());
+        for (T entity : _chunk) {
+            try {
+                EntityPersister persister = sessionImpl.getFactory().getMetamodel().entityPersister(entity.getClass());
+                state.add(Arrays.asList(persister.getIdentifier(entity, sessionImpl),
+                    persister.isVersioned() ? persister.getVersion(entity) : null));
+            } catch (RuntimeException _ex) {
+                state.add(null);
+            }
+        }
+        return state;
+    }
+
     /**
      * Execute the given Function in the database session.
      * Optionally catch all exceptions which might be thrown.
@@ -249,6 +737,42 @@ public class QueryUtil implements Closeable {
         return queryInSession(_toExecute, false);
     }
 
+    /**
+     * Execute the given Function in the default database session.
+     * Re-throws all exceptions.
+     * <br><br>
+     * The given tag and the number of returned rows are reported to the {@link QueryInstrumentation} of this instance.
+     *
+     * @param _tag tag identifying the query
+     * @param _toExecute function to execute
+     *
+     * @return Result of whatever the function should return
+     * @param <T> type of action result
+     * @since v11.0.5 - 2026-10-17
+     */
+    public <T> T queryInSession(String _tag, Function<Session, T> _toExecute) {
+        return queryInSession(_tag, null, _toExecute);
+    }
+
+    /**
+     * Execute the given Function in the default database session.
+     * Re-throws all exceptions.
+     * <br><br>
+     * If the function does not finish within the given timeout, the running statement is cancelled
+     * and a {@link QueryTimeoutException} is thrown.
+     *
+     * @param _tag tag identifying the query
+     * @param _timeout timeout, null to use the default timeout
+     * @param _toExecute function to execute
+     *
+     * @return Result of whatever the function should return
+     * @param <T> type of action result
+     * @since v11.0.5 - 2026-10-17
+     */
+    public <T> T queryInSession(String _tag, Duration _timeout, Function<Session, T> _toExecute) {
+        return querySession(_tag, _timeout, defaultSession, _toExecute, false);
+    }
+
     /**
      * Execute the given Function in the database session.
      * Optionally catches or re-throws all exceptions.
@@ -280,6 +804,42 @@ public class QueryUtil implements Closeable {
         return queryInNewSession(_toExecute, false);
     }
 
+    /**
+     * Execute the given Function in a new database session which is closed afterwards.
+     * Re-throws all exceptions.
+     * <br><br>
+     * The given tag and the number of returned rows are reported to the {@link QueryInstrumentation} of this instance.
+     *
+     * @param _tag tag identifying the query
+     * @param _toExecute function to execute
+     *
+     * @return Result of whatever the function should return
+     * @param <T> type of action result
+     * @since v11.0.5 - 2026-10-17
+     */
+    public <T> T queryInNewSession(String _tag, Function<Session, T> _toExecute) {
+        return queryInNewSession(_tag, null, _toExecute);
+    }
+
+    /**
+     * Execute the given Function in a new database session which is closed afterwards.
+     * Re-throws all exceptions.
+     * <br><br>
+     * If the function does not finish within the given timeout, the running statement is cancelled
+     * and a {@link QueryTimeoutException} is thrown.
+     *
+     * @param _tag tag identifying the query
+     * @param _timeout timeout, null to use the default timeout
+     * @param _toExecute function to execute
+     *
+     * @return Result of whatever the function should return
+     * @param <T> type of action result
+     * @since v11.0.5 - 2026-10-17
+     */
+    public <T> T queryInNewSession(String _tag, Duration _timeout, Function<Session, T> _toExecute) {
+        return querySession(_tag, _timeout, null, _toExecute, false);
+    }
+
     /**
      * Execute the given Function in the database session.
      * Catches all exceptions.
@@ -296,35 +856,672 @@ public class QueryUtil implements Closeable {
     }
 
     /**
-     * Execute the given Function in the given database session.
+     * Execute the given HQL query in a new session and cache the result.
      *
-     * @param _session session to execute function with
-     * @param _toExecute function to execute
-     * @param _catchAllExceptions true to catch all exceptions, false to re-throw
+     * @param _resultType type of result
+     * @param _hql query
+     * @return result list, unmodifiable
+     * @param <T> type of result
      *
-     * @return Result of whatever the function should return
-     * @param <T> type of action result
+     * @see #queryCached(Class, String, Map, Class...)
+     * @since v11.0.5 - 2026-10-17
      */
-    public <T> T querySession(Session _session, Function<Session, T> _toExecute, boolean _catchAllExceptions) {
-        Session session = getOrCreateSession(_session);
+    public <T> List<T> queryCached(Class<T> _resultType, String _hql) {
+        return queryCached(_resultType, _hql, null);
+    }
 
-        try {
-            fixOpenTransactions(session);
-            T result = _toExecute.apply(session);
-            if (_session == null && session.isConnected()) {
-                session.close();
-            }
-            return result;
-        } catch (RuntimeException _ex) {
-            logger.error("Error while performing database action.", _ex);
-            fixOpenTransactions(session);
-            if (!_catchAllExceptions) {
-                throw _ex;
-            }
-            return null;
+    /**
+     * Execute the given HQL query in a new session and cache the result.
+     * <p>
+     * If no {@link QueryResultCache} was set using {@link #setResultCache(QueryResultCache)},
+     * the query will always be executed.
+     * <p>
+     * The query is executed in a new session which is closed afterwards, so all returned entities are detached.
+     * Cached results are shared between all callers and must not be modified.
+     * <p>
+     * The cached result will be invalidated if an entity of the result type (if the result type is an entity)
+     * or any of the given dependency classes is written using a {@link QueryUtil} which uses the same cache.
+     * Results read while such a write was in progress are returned but not cached.
+     * Bulk updates or deletes using HQL or native queries and changes done by other applications will not be detected,
+     * use {@link QueryResultCache#invalidate(Class)} in that case.
+     *
+     * @param _resultType type of result
+     * @param _hql query
+     * @param _params named query parameters, may be null
+     * @param _dependsOn additional entity classes the result depends on (e.g. joined entities)
+     * @return result list, unmodifiable
+     * @param <T> type of result
+     *
+     * @since v11.0.5 - 2026-10-17
+     */
+    @SuppressWarnings("unchecked")
+    public <T> List<T> queryCached(Class<T> _resultType, String _hql, Map<String, ?> _params, Class<?>... _dependsOn) {
+        Objects.requireNonNull(_resultType, "Result type required");
+        Objects.requireNonNull(_hql, "Query required");
+
+        QueryResultCache cache = resultCache;
+        CacheKey key = null;
+        long generation = 0;
+        if (cache != null) {
+            key = new CacheKey(_resultType, _hql, _params);
+            List<?> cached = cache.get(key);
+            if (cached != null) {
+                return (List<T>) cached;
+            }
+            generation = cache.getGeneration();
+        }
+
+        List<T> result = queryInNewSession(session -> {
+            Query<T> query = session.createQuery(_hql, _resultType);
+            if (_params != null) {
+                _params.forEach(query::setParameter);
+            }
+            return query.getResultList();
+        });
+
+        if (cache == null) {
+            return result;
+        }
+
+        Set<Class<?>> dependencies = new HashSet<>();
+        if (isEntity(_resultType)) {
+            dependencies.add(_resultType);
+        }
+        if (_dependsOn != null) {
+            dependencies.addAll(List.of(_dependsOn));
+        }
+        return cache.put(key, result, dependencies, generation);
+    }
+
+    /**
+     * Loads all entities with the given IDs using the default session.
+     *
+     * @param _entityClass entity class
+     * @param _ids IDs to load
+     * @return entities in order of the given IDs
+     * @param <T> entity type
+     * @param <I> ID type
+     *
+     * @see #loadAll(Class, Collection, int)
+     * @since v11.0.5 - 2026-10-17
+     */
+    public <T, I extends Serializable> List<T> loadAll(Class<T> _entityClass, Collection<I> _ids) {
+        return loadAll(_entityClass, _ids, DEFAULT_LOAD_BATCH_SIZE);
+    }
+
+    /**
+     * Loads all entities with the given IDs using the default session.
+     * <p>
+     * Entities already contained in the default session are taken from the session,
+     * all others are loaded using IN queries with at most {@code _batchSize} IDs each.
+     * Duplicate IDs are only loaded once.
+     * <p>
+     * The returned list has the same size and order as the given IDs.
+     * It contains null for null IDs and for IDs which do not exist.
+     *
+     * @param _entityClass entity class
+     * @param _ids IDs to load
+     * @param _batchSize maximum number of IDs per query
+     * @return entities in order of the given IDs
+     * @param <T> entity type
+     * @param <I> ID type
+     *
+     * @since v11.0.5 - 2026-10-17
+     */
+    public <T, I extends Serializable> List<T> loadAll(Class<T> _entityClass, Collection<I> _ids, int _batchSize) {
+        Objects.requireNonNull(_entityClass, "Entity class required");
+        if (_batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be greater than 0");
+        }
+        if (_ids == null || _ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<I> uniqueIds = new ArrayList<>(new LinkedHashSet<>(_ids));
+        uniqueIds.remove(null);
+
+        Map<I, T> entitiesById = new HashMap<>();
+        if (!uniqueIds.isEmpty()) {
+            List<T> loaded = queryInSession("loadAll:" + _entityClass.getSimpleName(), session -> session.byMultipleIds(_entityClass)
+                .withBatchSize(_batchSize)
+                .enableSessionCheck(true)
+                .enableOrderedReturn(true)
+                .multiLoad(uniqueIds));
+
+            for (int i = 0; i < uniqueIds.size(); i++) {
+                entitiesById.put(uniqueIds.get(i), loaded.get(i));
+            }
+        }
+
+        List<T> result = new ArrayList<>(_ids.size());
+        for (I id : _ids) {
+            result.add(id == null ? null : entitiesById.get(id));
+        }
+        return result;
+    }
+
+    private void recordQuery(QueryInstrumentation _instrumentation, String _tag, long _start, long _rows, Throwable _error) {
+        try {
+            _instrumentation.queryFinished(_tag, System.nanoTime() - _start, _rows, _error);
+        } catch (RuntimeException _ex) {
+            logger.warn("Query instrumentation failed", _ex);
+        }
+    }
+
+    private static long countRows(Object _result) {
+        if (_result == null) {
+            return 0;
+        } else if (_result instanceof Collection) {
+            return ((Collection<?>) _result).size();
+        } else if (_result instanceof Map) {
+            return ((Map<?, ?>) _result).size();
+        } else if (_result.getClass().isArray()) {
+            return Array.getLength(_result);
+        }
+        return 1;
+    }
+
+    private boolean isEntity(Class<?> _clz) {
+        try {
+            return dbFactory.getMetamodel().entity(_clz) != null;
+        } catch (IllegalArgumentException _ex) {
+            return false;
+        }
+    }
+
+    /**
+     * Execute the given Function in the given database session.
+     *
+     * @param _session session to execute function with
+     * @param _toExecute function to execute
+     * @param _catchAllExceptions true to catch all exceptions, false to re-throw
+     *
+     * @return Result of whatever the function should return
+     * @param <T> type of action result
+     */
+    public <T> T querySession(Session _session, Function<Session, T> _toExecute, boolean _catchAllExceptions) {
+        return querySession(UNTAGGED, null, _session, _toExecute, _catchAllExceptions);
+    }
+
+    private <T> T querySession(String _tag, Duration _timeout, Session _session, Function<Session, T> _toExecute, boolean _catchAllExceptions) {
+        Session session = getOrCreateSession(_session);
+        QueryInstrumentation instr = instrumentation;
+        long start = instr == null ? 0 : System.nanoTime();
+        Duration timeout = _timeout != null ? _timeout : defaultTimeout;
+        QueryWatchdog watchdog = null;
+
+        try {
+            prepareSession(session);
+            watchdog = QueryWatchdog.start(session, timeout);
+            T result = _toExecute.apply(session);
+            stopWatchdog(watchdog);
+            if (_session == null && session.isConnected()) {
+                session.close();
+            }
+            if (instr != null) {
+                recordQuery(instr, _tag, start, countRows(result), null);
+            }
+            return result;
+        } catch (RuntimeException _ex) {
+            RuntimeException ex = handleTimeout(watchdog, _tag, timeout, _ex);
+            if (instr != null) {
+                recordQuery(instr, _tag, start, 0, ex);
+            }
+            logger.error("Error while performing database action.", ex);
+            fixOpenTransactions(session);
+            if (_session == null) {
+                session.close();
+            }
+            if (!_catchAllExceptions) {
+                throw ex;
+            }
+            return null;
+        }
+    }
+
+    private static void stopWatchdog(QueryWatchdog _watchdog) {
+        if (_watchdog != null) {
+            _watchdog.close();
+        }
+    }
+
+    /**
+     * Stops the watchdog and converts the given exception to {@link QueryTimeoutException}
+     * if it was caused by the timeout.
+     */
+    private static RuntimeException handleTimeout(QueryWatchdog _watchdog, String _tag, Duration _timeout, RuntimeException _ex) {
+        if (_watchdog == null) {
+            return _ex;
+        }
+        _watchdog.close();
+        if (_ex instanceof QueryTimeoutException || !_watchdog.isTimeout(_ex)) {
+            return _ex;
+        }
+        return new QueryTimeoutException(_tag, _timeout, _ex);
+    }
+
+
+    /**
+     * Executes the query created by the given function in a new session and passes the results
+     * to the given consumer in chunks.
+     * <br><br>
+     * The results are read using a forward-only {@link ScrollableResults} and the session will be cleared
+     * after each chunk, so the memory used does not depend on the size of the result set.
+     * Entities passed to the consumer are read-only and detached once the consumer returns.
+     * <br>
+     * @param _queryFactory function creating the query to execute
+     * @param _chunkSize number of rows passed to the consumer at once (also used as JDBC fetch size)
+     * @param _chunkConsumer consumer receiving the rows
+     *
+     * @return total number of rows read
+     * @param <T> type of result rows
+     *
+     * @since v11.0.5 - 2026-10-17
+     */
+    public <T> long streamInNewSession(Function<Session, Query<T>> _queryFactory, int _chunkSize, Consumer<List<T>> _chunkConsumer) {
+        return streamInNewSession(_queryFactory, _chunkSize, _chunkSize, _chunkConsumer);
+    }
+
+    /**
+     * Executes the query created by the given function in a new session and passes the results
+     * to the given consumer in chunks.
+     *
+     * @param _queryFactory function creating the query to execute
+     * @param _fetchSize JDBC fetch size hint
+     * @param _chunkSize number of rows passed to the consumer at once
+     * @param _chunkConsumer consumer receiving the rows
+     *
+     * @return total number of rows read
+     * @param <T> type of result rows
+     *
+     * @see #streamInNewSession(Function, int, Consumer)
+     * @since v11.0.5 - 2026-10-17
+     */
+    public <T> long streamInNewSession(Function<Session, Query<T>> _queryFactory, int _fetchSize, int _chunkSize, Consumer<List<T>> _chunkConsumer) {
+        Objects.requireNonNull(_queryFactory, "Query function required");
+        Objects.requireNonNull(_chunkConsumer, "Consumer required");
+        int chunkSize = _chunkSize <= 0 ? DEFAULT_STREAM_CHUNK_SIZE : _chunkSize;
+        int fetchSize = _fetchSize <= 0 ? chunkSize : _fetchSize;
+
+        Long count = querySession(null, session -> {
+            Query<T> query = _queryFactory.apply(session);
+            query.setFetchSize(fetchSize);
+            query.setReadOnly(true);
+
+            long rows = 0;
+            List<T> chunk = new ArrayList<>(chunkSize);
+            try (ScrollableResults results = query.scroll(ScrollMode.FORWARD_ONLY)) {
+                while (results.next()) {
+                    chunk.add(readRow(results));
+                    rows++;
+                    if (chunk.size() >= chunkSize) {
+                        _chunkConsumer.accept(chunk);
+                        chunk = new ArrayList<>(chunkSize);
+                        session.clear();
+                    }
+                }
+            }
+            if (!chunk.isEmpty()) {
+                _chunkConsumer.accept(chunk);
+                session.clear();
+            }
+            return rows;
+        }, false);
+
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * Reads the current row of the given results.
+     * Single column rows are returned as is, multi column rows as Object[].
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T readRow(ScrollableResults _results) {
+        Object[] row = _results.get();
+        return (T) (row != null && row.length == 1 ? row[0] : row);
+    }
+
+    /**
+     * Execute the given Function asynchronously.
+     * <br><br>
+     * A new session is created on the executor thread and closed after the function was applied.
+     * Cancelling the returned future will cancel the currently running query using {@link Session#cancelQuery()}.
+     * <br>
+     * @param _toExecute function to execute
+     *
+     * @return future completed with the result of the function
+     * @param <T> type of action result
+     *
+     * @since v11.0.5 - 2026-10-17
+     */
+    public <T> CompletableFuture<T> queryAsync(Function<Session, T> _toExecute) {
+        Objects.requireNonNull(_toExecute, "Function required");
+
+        CompletableFuture<T> future = new CompletableFuture<>();
+        AtomicReference<Session> runningSession = new AtomicReference<>();
+
+        future.whenComplete((r, ex) -> {
+            if (future.isCancelled()) {
+                cancelRunningQuery(runningSession.get());
+            }
+        });
+
+        try {
+            getAsyncExecutor().execute(() -> {
+                if (future.isDone()) {
+                    return;
+                }
+                Session session = createNewSession();
+                runningSession.set(session);
+                try {
+                    if (!future.isDone()) {
+                        future.complete(querySession(session, _toExecute, false));
+                    }
+                } catch (Throwable _ex) {
+                    future.completeExceptionally(_ex);
+                } finally {
+                    runningSession.set(null);
+                    if (session.isOpen()) {
+                        session.close();
+                    }
+                }
+            });
+        } catch (RejectedExecutionException _ex) {
+            future.completeExceptionally(_ex);
+        }
+
+        return future;
+    }
+
+    /**
+     * Execute the given Function asynchronously and deliver the result on the JavaFX application thread.
+     * <br><br>
+     * Behaves like {@link #queryAsync(Function)}, but calls the given callbacks using {@link Platform#runLater(Runnable)}.
+     * No callback is called if the returned future was cancelled.
+     * <br>
+     * @param _toExecute function to execute
+     * @param _onSuccess called with the result of the function on JavaFX thread, may be null
+     * @param _onError called with the exception thrown by the function on JavaFX thread, may be null
+     *
+     * @return future completed with the result of the function
+     * @param <T> type of action result
+     *
+     * @since v11.0.5 - 2026-10-17
+     */
+    public <T> CompletableFuture<T> queryAsync(Function<Session, T> _toExecute, Consumer<T> _onSuccess, Consumer<Throwable> _onError) {
+        CompletableFuture<T> future = queryAsync(_toExecute);
+        future.whenComplete((result, ex) -> {
+            if (ex == null) {
+                if (_onSuccess != null) {
+                    Platform.runLater(() -> _onSuccess.accept(result));
+                }
+            } else {
+                Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                if (_onError != null && !(cause instanceof CancellationException)) {
+                    Platform.runLater(() -> _onError.accept(cause));
+                }
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Initializes the given lazy associations of all given entities in a new session.
+     * <p>
+     * Use this for entities which have been loaded in another session (e.g. using {@link #queryInNewSession(Function)})
+     * and will be displayed afterwards, so rendering them does not trigger lazy loading (or fail with
+     * {@link org.hibernate.LazyInitializationException}) on the JavaFX thread.
+     * <p>
+     * Paths are property names of the entities, nested associations are separated by dots (e.g. {@code "orders.items"}).
+     * Entities are processed in batches of {@link #DEFAULT_LOAD_BATCH_SIZE}, every batch is loaded with one fetch join
+     * query per distinct first path segment. Deeper segments are initialized one by one, configure
+     * {@code hibernate.default_batch_fetch_size} to let hibernate load those in batches as well.
+     * <p>
+     * Uninitialized association properties of the given entities are replaced by the initialized values,
+     * associations which are already initialized are kept (including unsaved changes).
+     * The given entities should not be attached to another open session which is used to write them.
+     *
+     * @param _entities entities to prefetch, may contain entities of different classes
+     * @param _paths association paths to initialize
+     * @return the given list
+     * @param <T> entity type
+     *
+     * @see #prefetchAsync(List, String...)
+     * @since v11.0.5 - 2026-10-17
+     */
+    public <T> List<T> prefetch(List<T> _entities, String... _paths) {
+        return queryInNewSession("prefetch", prefetchFunction(_entities, _paths));
+    }
+
+    /**
+     * Initializes the given lazy associations of all given entities on a background thread.
+     *
+     * @param _entities entities to prefetch, may contain entities of different classes
+     * @param _paths association paths to initialize
+     * @return future completed with the given list when all associations are initialized
+     * @param <T> entity type
+     *
+     * @see #prefetch(List, String...)
+     * @see #queryAsync(Function)
+     * @since v11.0.5 - 2026-10-17
+     */
+    public <T> CompletableFuture<List<T>> prefetchAsync(List<T> _entities, String... _paths) {
+        return queryAsync(prefetchFunction(_entities, _paths));
+    }
+
+    /**
+     * Initializes the given lazy associations of all given entities on a background thread
+     * and passes the list to the given callback on the JavaFX application thread afterwards.
+     *
+     * @param _entities entities to prefetch, may contain entities of different classes
+     * @param _onSuccess called with the given list on JavaFX thread, may be null
+     * @param _onError called with the exception thrown on JavaFX thread, may be null
+     * @param _paths association paths to initialize
+     * @return future completed with the given list when all associations are initialized
+     * @param <T> entity type
+     *
+     * @see #prefetch(List, String...)
+     * @see #queryAsync(Function, Consumer, Consumer)
+     * @since v11.0.5 - 2026-10-17
+     */
+    public <T> CompletableFuture<List<T>> prefetchAsync(List<T> _entities, Consumer<List<T>> _onSuccess, Consumer<Throwable> _onError, String... _paths) {
+        return queryAsync(prefetchFunction(_entities, _paths), _onSuccess, _onError);
+    }
+
+    private <T> Function<Session, List<T>> prefetchFunction(List<T> _entities, String... _paths) {
+        AssociationPrefetcher.validatePaths(_paths);
+        return session -> {
+            if (_entities != null && !_entities.isEmpty()) {
+                session.setDefaultReadOnly(true);
+                new AssociationPrefetcher(session, DEFAULT_LOAD_BATCH_SIZE, _paths).prefetch(_entities);
+            }
+            return _entities;
+        };
+    }
+
+    /**
+     * Execute the given Consumer asynchronously in a new session.
+     *
+     * @param _toExecute consumer to execute
+     * @return future completed when consumer was executed
+     *
+     * @see #queryAsync(Function)
+     * @since v11.0.5 - 2026-10-17
+     */
+    public CompletableFuture<Void> executeAsync(Consumer<Session> _toExecute) {
+        Objects.requireNonNull(_toExecute, "Consumer required");
+        return queryAsync(session -> {
+            _toExecute.accept(session);
+            return null;
+        });
+    }
+
+    /**
+     * Execute the given Consumer asynchronously in a new session and notify the given callbacks on the JavaFX application thread.
+     *
+     * @param _toExecute consumer to execute
+     * @param _onSuccess called on JavaFX thread after consumer was executed, may be null
+     * @param _onError called with the exception thrown by the consumer on JavaFX thread, may be null
+     * @return future completed when consumer was executed
+     *
+     * @see #queryAsync(Function, Consumer, Consumer)
+     * @since v11.0.5 - 2026-10-17
+     */
+    public CompletableFuture<Void> executeAsync(Consumer<Session> _toExecute, Runnable _onSuccess, Consumer<Throwable> _onError) {
+        Objects.requireNonNull(_toExecute, "Consumer required");
+        return queryAsync(session -> {
+            _toExecute.accept(session);
+            return null;
+        }, _onSuccess == null ? null : v -> _onSuccess.run(), _onError);
+    }
+
+    /**
+     * Set the cache used by {@link #queryCached(Class, String, Map, Class...)}.
+     * <p>
+     * Writes done by this instance will invalidate cached results depending on the written entities.
+     * Share the same cache between all {@link QueryUtil} instances writing to the same database.
+     * Setting a cache will re-open the default session.
+     *
+     * @param _cache cache to use, null to disable caching
+     * @since v11.0.5 - 2026-10-17
+     */
+    public void setResultCache(QueryResultCache _cache) {
+        if (resultCache == _cache) {
+            return;
+        }
+        resultCache = _cache;
+        if (defaultSession.isOpen()) {
+            defaultSession.close();
         }
+        replaceDefaultSession(openSession());
     }
 
+    public QueryResultCache getResultCache() {
+        return resultCache;
+    }
+
+    /**
+     * Set the instrumentation which will be informed about the execution time and returned rows
+     * of every query executed by this instance.
+     * <p>
+     * Use the methods taking a tag (e.g. {@link #queryInSession(String, Function)}) to identify the queries,
+     * all other methods will use {@link #UNTAGGED}.
+     *
+     * @param _instrumentation instrumentation (e.g. {@link QueryMetrics}), null to disable
+     * @since v11.0.5 - 2026-10-17
+     */
+    public void setInstrumentation(QueryInstrumentation _instrumentation) {
+        instrumentation = _instrumentation;
+    }
+
+    public QueryInstrumentation getInstrumentation() {
+        return instrumentation;
+    }
+
+    /**
+     * Set the timeout used for all calls of this instance which do not specify their own timeout.
+     * <p>
+     * The timeout is passed to the JDBC driver as query timeout of every statement and additionally enforced
+     * by cancelling the running statement once it passed. A call exceeding the timeout will throw a
+     * {@link QueryTimeoutException} (or return null when using the catch-all methods).
+     *
+     * @param _timeout timeout, null to wait forever
+     * @since v11.0.5 - 2026-10-17
+     */
+    public void setDefaultTimeout(Duration _timeout) {
+        defaultTimeout = _timeout;
+    }
+
+    public Duration getDefaultTimeout() {
+        return defaultTimeout;
+    }
+
+    /**
+     * Set the policy used to retry failed transactions of {@link #doInTransaction(Consumer)},
+     * {@link #doInTransactionInNewSession(Consumer)} and their overloads.
+     * <p>
+     * Retries are always executed in a new session, so the function has to load all entities it
+     * modifies itself (entities loaded before in another session are not updated).
+     * A transaction still pending on the default session is rolled back before the function is executed.
+     * Failed attempts which are retried are only logged as warning.
+     *
+     * @param _retryPolicy policy, null to disable retries
+     * @since v11.0.5 - 2026-10-17
+     */
+    public void setRetryPolicy(RetryPolicy _retryPolicy) {
+        retryPolicy = _retryPolicy;
+    }
+
+    public RetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
+
+    /**
+     * Set the executor used by the async methods of this instance.
+     *
+     * @param _executor executor, null to use the default executor
+     * @since v11.0.5 - 2026-10-17
+     */
+    public void setAsyncExecutor(Executor _executor) {
+        asyncExecutor = _executor;
+    }
+
+    /**
+     * Set the executor used by all {@link QueryUtil} instances which do not have their own executor.
+     * If no executor is set, virtual threads will be used if supported by the running JVM,
+     * otherwise a cached pool of daemon threads is used.
+     *
+     * @param _executor executor, null to use the built-in default
+     * @since v11.0.5 - 2026-10-17
+     */
+    public static void setDefaultAsyncExecutor(Executor _executor) {
+        defaultAsyncExecutor = _executor;
+    }
+
+    private Executor getAsyncExecutor() {
+        if (asyncExecutor != null) {
+            return asyncExecutor;
+        }
+        Executor executor = defaultAsyncExecutor;
+        if (executor == null) {
+            synchronized (QueryUtil.class) {
+                if (defaultAsyncExecutor == null) {
+                    defaultAsyncExecutor = createDefaultExecutor();
+                }
+                executor = defaultAsyncExecutor;
+            }
+        }
+        return executor;
+    }
+
+    /**
+     * Creates an executor using virtual threads (Java 21+) or a cached thread pool using daemon threads.
+     * @return Executor
+     */
+    private static Executor createDefaultExecutor() {
+        try {
+            Method virtualExecutor = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (Executor) virtualExecutor.invoke(null);
+        } catch (ReflectiveOperationException _ex) {
+            AtomicInteger threadCount = new AtomicInteger();
+            return Executors.newCachedThreadPool(r -> {
+                Thread t = new Thread(r, "QueryUtil-Async-" + threadCount.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            });
+        }
+    }
+
+    private void cancelRunningQuery(Session _session) {
+        if (_session == null || !_session.isOpen()) {
+            return;
+        }
+        try {
+            _session.cancelQuery();
+        } catch (RuntimeException _ex) {
+            logger.debug("Unable to cancel query on session {}", _session, _ex);
+        }
+    }
 
     /**
      * Close the underlying session.
@@ -335,6 +1532,65 @@ public class QueryUtil implements Closeable {
             logger.info("Closing DB session {}", defaultSession);
             defaultSession.close();
         }
+        Consumer<QueryUtil> listener = closeListener;
+        if (listener != null) {
+            closeListener = null;
+            listener.accept(this);
+        }
+    }
+
+    /**
+     * Set a listener which is called once when {@link #closeSession()} is called.
+     * Used by {@link DbManager} to keep track of open instances.
+     */
+    void setCloseListener(Consumer<QueryUtil> _listener) {
+        closeListener = _listener;
+    }
+
+    /**
+     * Set a listener which is called whenever the default session is replaced by a new session.
+     * Used by {@link DbManager} to keep track of open sessions.
+     */
+    void setSessionListener(Consumer<Session> _listener) {
+        sessionListener = _listener;
+    }
+
+    Session getDefaultSession() {
+        return defaultSession;
+    }
+
+    private void replaceDefaultSession(Session _session) {
+        defaultSession = _session;
+        Consumer<Session> listener = sessionListener;
+        if (listener != null) {
+            listener.accept(_session);
+        }
+    }
+
+    boolean hasOpenSession() {
+        return defaultSession.isOpen();
+    }
+
+    /**
+     * Rolls back pending transactions and clears the persistence context of the default session.
+     * Used by {@link QueryUtilPool} before an instance is re-used.
+     *
+     * @return true if default session is still usable, false if it was closed
+     */
+    boolean resetDefaultSession() {
+        if (!defaultSession.isOpen()) {
+            return false;
+        }
+        try {
+            if (defaultSession.getTransaction().isActive()) {
+                defaultSession.getTransaction().rollback();
+            }
+            defaultSession.clear();
+            return true;
+        } catch (RuntimeException _ex) {
+            logger.warn("Unable to reset DB session {}", defaultSession, _ex);
+            return false;
+        }
     }
 
     /**
@@ -351,7 +1607,51 @@ public class QueryUtil implements Closeable {
     }
 
     public Session createNewSession() {
-        return dbFactory.openSession();
+        return openSession();
+    }
+
+    /**
+     * Returns true if this instance uses read-only sessions.
+     * @return boolean
+     * @since v11.0.5 - 2026-10-17
+     */
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
+    /**
+     * Opens a new session and applies read-only settings if read-only mode is enabled.
+     */
+    private Session openSession() {
+        QueryResultCache cache = resultCache;
+        Session session = cache == null
+                ? dbFactory.openSession()
+                : dbFactory.withOptions().interceptor(new CacheInvalidationInterceptor(cache)).openSession();
+        if (readOnly) {
+            session.setDefaultReadOnly(true);
+            session.setHibernateFlushMode(FlushMode.MANUAL);
+        }
+        return session;
+    }
+
+    /**
+     * Prepare session before executing a function.
+     * In read-only mode only the session state is checked, otherwise pending transactions will be rolled back.
+     */
+    private void prepareSession(Session _session) {
+        if (readOnly) {
+            if (!_session.isOpen()) {
+                throw new IllegalStateException("Database session already closed");
+            }
+        } else {
+            fixOpenTransactions(_session);
+        }
+    }
+
+    private void checkWritable() {
+        if (readOnly) {
+            throw new IllegalStateException("QueryUtil is read-only");
+        }
     }
 
     /**
@@ -381,15 +1681,15 @@ public class QueryUtil implements Closeable {
     private Session getOrCreateSession(Session _session) {
         Session session;
         if (_session == null) {
-            session = dbFactory.openSession();
+            session = openSession();
         } else {
             if (!_session.isOpen()) { // session was closed before, create new session
-                session = dbFactory.openSession();
+                session = openSession();
 
                 // the given session was the default session and it was closed
                 // update the default session to the new session (old closed session cannot be used anymore)
                 if (defaultSession == _session) {
-                    defaultSession = session;
+                    replaceDefaultSession(session);
                 }
             } else {
                 session = _session;
@@ -0,0 +1,329 @@
+package com.github.hypfvieh.javafx.db;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounded pool of {@link QueryUtil} instances.
+ * <p>
+ * Every {@link QueryUtil} handed out by this pool is leased exclusively to the caller
+ * until it is given back using {@link #release(QueryUtil)}. This allows multiple threads
+ * to query the database in parallel without sharing the same hibernate session.
+ * <p>
+ * Idle instances which were not used for longer than the configured maximum idle time
+ * will be closed when the pool is accessed the next time.
+ * <p>
+ * <strong>Requires hibernate, please add it to your project, otherwise using this class will fail
+ * </strong>
+ *
+ * @author hypfvieh
+ * @since v11.0.5 - 2026-10-17
+ */
+public class QueryUtilPool implements Closeable {
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final Supplier<QueryUtil> queryUtilFactory;
+    private final int maxSize;
+    private final Duration maxIdle;
+
+    private final Semaphore permits;
+    private final Deque<PooledEntry> idle = new ArrayDeque<>();
+    /** Instances currently leased from this pool. */
+    private final Set<QueryUtil> leased = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    private final AtomicLong created = new AtomicLong();
+    private final AtomicLong evicted = new AtomicLong();
+    private final AtomicLong borrowed = new AtomicLong();
+
+    private volatile boolean closed;
+
+    /**
+     * Create a new pool.
+     *
+     * @param _sessionFactory factory used to create new sessions, never null
+     * @param _maxSize maximum number of {@link QueryUtil} instances leased at the same time
+     * @param _maxIdle maximum time an unused instance is kept open, null to keep idle instances forever
+     */
+    public QueryUtilPool(SessionFactory _sessionFactory, int _maxSize, Duration _maxIdle) {
+        this(createFactory(_sessionFactory), _maxSize, _maxIdle);
+    }
+
+    /**
+     * Create a new pool using the given supplier to create new {@link QueryUtil} instances.
+     *
+     * @param _queryUtilFactory supplier creating new instances, never null
+     * @param _maxSize maximum number of {@link QueryUtil} instances leased at the same time
+     * @param _maxIdle maximum time an unused instance is kept open, null to keep idle instances forever
+     */
+    QueryUtilPool(Supplier<QueryUtil> _queryUtilFactory, int _maxSize, Duration _maxIdle) {
+        if (_maxSize <= 0) {
+            throw new IllegalArgumentException("Pool size must be greater than 0");
+        }
+        queryUtilFactory = Objects.requireNonNull(_queryUtilFactory, "QueryUtil factory required");
+        maxSize = _maxSize;
+        maxIdle = _maxIdle;
+        permits = new Semaphore(_maxSize, true);
+    }
+
+    /**
+     * Lease a {@link QueryUtil} from the pool.
+     * Blocks until an instance is available.
+     *
+     * @return {@link QueryUtil}, never null
+     * @throws IllegalStateException if pool was closed or waiting thread was interrupted
+     */
+    public QueryUtil borrow() {
+        checkOpen();
+        try {
+            permits.acquire();
+        } catch (InterruptedException _ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for database session", _ex);
+        }
+        return takeOrCreate();
+    }
+
+    /**
+     * Lease a {@link QueryUtil} from the pool, waiting at most the given time.
+     *
+     * @param _timeout maximum time to wait
+     * @param _unit unit of timeout
+     * @return {@link QueryUtil} or null if no instance became available in time
+     * @throws IllegalStateException if pool was closed or waiting thread was interrupted
+     */
+    public QueryUtil borrow(long _timeout, TimeUnit _unit) {
+        checkOpen();
+        try {
+            if (!permits.tryAcquire(_timeout, _unit)) {
+                return null;
+            }
+        } catch (InterruptedException _ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for database session", _ex);
+        }
+        return takeOrCreate();
+    }
+
+    /**
+     * Give a previously leased {@link QueryUtil} back to the pool.
+     * Pending transactions will be rolled back and the session will be cleared.
+     * <p>
+     * Instances which are not currently leased from this pool (e.g. released twice) are ignored.
+     *
+     * @param _queryUtil instance to return, null is ignored
+     */
+    public void release(QueryUtil _queryUtil) {
+        if (_queryUtil == null) {
+            return;
+        }
+        synchronized (leased) {
+            if (!leased.remove(_queryUtil)) {
+                logger.warn("Ignoring release of QueryUtil {} which is not leased from this pool", _queryUtil);
+                return;
+            }
+        }
+
+        try {
+            if (closed || !_queryUtil.resetDefaultSession()) {
+                _queryUtil.closeSession();
+            } else {
+                synchronized (idle) {
+                    idle.push(new PooledEntry(_queryUtil));
+                }
+            }
+        } finally {
+            permits.release();
+        }
+        evictIdle();
+    }
+
+    /**
+     * Lease a {@link QueryUtil}, apply the given function and return the instance to the pool.
+     *
+     * @param <T> type of result
+     * @param _func function to execute
+     * @return result of function
+     */
+    public <T> T query(Function<QueryUtil, T> _func) {
+        QueryUtil queryUtil = borrow();
+        try {
+            return _func.apply(queryUtil);
+        } finally {
+            release(queryUtil);
+        }
+    }
+
+    /**
+     * Lease a {@link QueryUtil}, call the given consumer and return the instance to the pool.
+     *
+     * @param _consumer consumer to execute
+     */
+    public void execute(Consumer<QueryUtil> _consumer) {
+        query(q -> {
+            _consumer.accept(q);
+            return null;
+        });
+    }
+
+    /**
+     * Close all idle instances which were unused for longer than the configured maximum idle time.
+     */
+    public void evictIdle() {
+        if (maxIdle == null) {
+            return;
+        }
+        long limit = System.nanoTime() - maxIdle.toNanos();
+        synchronized (idle) {
+            Iterator<PooledEntry> it = idle.descendingIterator();
+            while (it.hasNext()) {
+                PooledEntry entry = it.next();
+                if (entry.lastUsed - limit < 0) {
+                    it.remove();
+                    entry.queryUtil.closeSession();
+                    evicted.incrementAndGet();
+                }
+            }
+        }
+    }
+
+    /**
+     * Maximum number of instances which can be leased at the same time.
+     * @return int
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Number of currently leased instances.
+     * @return int
+     */
+    public int getActiveCount() {
+        return maxSize - permits.availablePermits();
+    }
+
+    /**
+     * Number of instances currently waiting in the pool for re-use.
+     * @return int
+     */
+    public int getIdleCount() {
+        synchronized (idle) {
+            return idle.size();
+        }
+    }
+
+    /**
+     * Number of threads currently waiting for a free instance.
+     * @return int
+     */
+    public int getWaitingCount() {
+        return permits.getQueueLength();
+    }
+
+    /**
+     * Total number of instances created by this pool.
+     * @return long
+     */
+    public long getCreatedCount() {
+        return created.get();
+    }
+
+    /**
+     * Total number of instances closed because they were idle for too long.
+     * @return long
+     */
+    public long getEvictedCount() {
+        return evicted.get();
+    }
+
+    /**
+     * Total number of leases served by this pool.
+     * @return long
+     */
+    public long getBorrowedCount() {
+        return borrowed.get();
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Closes all idle sessions.
+     * Instances which are still leased will be closed when they are released.
+     * The underlying {@link SessionFactory} will not be closed.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        synchronized (idle) {
+            idle.forEach(e -> e.queryUtil.closeSession());
+            idle.clear();
+        }
+    }
+
+    private QueryUtil takeOrCreate() {
+        try {
+            evictIdle();
+            PooledEntry entry;
+            synchronized (idle) {
+                entry = idle.poll();
+            }
+            QueryUtil queryUtil;
+            if (entry != null) {
+                queryUtil = entry.queryUtil;
+            } else {
+                queryUtil = queryUtilFactory.get();
+                created.incrementAndGet();
+                logger.debug("Created new pooled QueryUtil, {} instances created so far", created.get());
+            }
+            synchronized (leased) {
+                leased.add(queryUtil);
+            }
+            borrowed.incrementAndGet();
+            return queryUtil;
+        } catch (RuntimeException _ex) {
+            permits.release();
+            throw _ex;
+        }
+    }
+
+    private static Supplier<QueryUtil> createFactory(SessionFactory _sessionFactory) {
+        Objects.requireNonNull(_sessionFactory, "SessionFactory required");
+        return () -> new QueryUtil(_sessionFactory);
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("QueryUtilPool already closed");
+        }
+    }
+
+    private static final class PooledEntry {
+        private final QueryUtil queryUtil;
+        private final long lastUsed;
+
+        PooledEntry(QueryUtil _queryUtil) {
+            queryUtil = _queryUtil;
+            lastUsed = System.nanoTime();
+        }
+    }
+
+}
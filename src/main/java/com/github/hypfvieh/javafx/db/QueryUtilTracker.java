@@ -0,0 +1,195 @@
+package com.github.hypfvieh.javafx.db;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps track of {@link QueryUtil} instances created by {@link DbManager#getNewQueryUtil()}.
+ * <p>
+ * Instances are only weakly referenced, so instances which are no longer used can be garbage collected.
+ * The session of a garbage collected instance will be closed by this tracker.
+ * Instances are removed from the tracker as soon as {@link QueryUtil#closeSession()} is called.
+ * <p>
+ * If leak detection is enabled, the stack of the code which created the instance is recorded and logged
+ * when the instance is kept open longer than the configured threshold.
+ *
+ * @author hypfvieh
+ * @since v11.0.5 - 2026-10-17
+ */
+class QueryUtilTracker {
+    private static ScheduledExecutorService leakDetector;
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final Set<TrackedQueryUtil> references = ConcurrentHashMap.newKeySet();
+    private final ReferenceQueue<QueryUtil> queue = new ReferenceQueue<>();
+
+    private volatile Duration leakThreshold;
+    private ScheduledFuture<?> leakCheckTask;
+
+    /**
+     * Start tracking the given instance.
+     */
+    void track(QueryUtil _queryUtil) {
+        expunge();
+        if (leakThreshold != null) {
+            startLeakDetection();
+        }
+        TrackedQueryUtil ref = new TrackedQueryUtil(_queryUtil, queue, leakThreshold != null);
+        references.add(ref);
+        // the listeners must not reference the QueryUtil itself, otherwise it will never be garbage collected
+        _queryUtil.setCloseListener(q -> untrack(ref));
+        _queryUtil.setSessionListener(s -> ref.session = s);
+    }
+
+    /**
+     * Stop tracking the given instance.
+     */
+    private void untrack(TrackedQueryUtil _ref) {
+        references.remove(_ref);
+        _ref.clear();
+    }
+
+    /**
+     * Number of tracked instances which have not been closed yet.
+     */
+    int getOpenCount() {
+        expunge();
+        return references.size();
+    }
+
+    /**
+     * Enables leak detection.
+     * Instances created after calling this method will record their allocation stack.
+     *
+     * @param _threshold time after which an open instance is reported, null to disable
+     */
+    synchronized void setLeakThreshold(Duration _threshold) {
+        stopLeakDetection();
+        leakThreshold = _threshold;
+        if (_threshold != null) {
+            startLeakDetection();
+        }
+    }
+
+    Duration getLeakThreshold() {
+        return leakThreshold;
+    }
+
+    private synchronized void startLeakDetection() {
+        Duration threshold = leakThreshold;
+        if (leakCheckTask != null || threshold == null) {
+            return;
+        }
+        long periodMs = Math.max(1000, threshold.toMillis() / 2);
+        leakCheckTask = getLeakDetector().scheduleWithFixedDelay(this::checkLeaks, periodMs, periodMs, TimeUnit.MILLISECONDS);
+    }
+
+    private synchronized void stopLeakDetection() {
+        if (leakCheckTask != null) {
+            leakCheckTask.cancel(false);
+            leakCheckTask = null;
+        }
+    }
+
+    private static synchronized ScheduledExecutorService getLeakDetector() {
+        if (leakDetector == null) {
+            leakDetector = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "QueryUtil-LeakDetector");
+                t.setDaemon(true);
+                return t;
+            });
+        }
+        return leakDetector;
+    }
+
+    /**
+     * Logs all instances which are open longer than the leak threshold.
+     * Every instance is only reported once.
+     */
+    void checkLeaks() {
+        expunge();
+        Duration threshold = leakThreshold;
+        if (threshold == null) {
+            return;
+        }
+        long limit = System.nanoTime() - threshold.toNanos();
+        for (TrackedQueryUtil ref : references) {
+            if (!ref.reported && ref.created - limit < 0 && ref.session.isOpen()) {
+                ref.reported = true;
+                if (ref.allocationStack != null) {
+                    logger.warn("QueryUtil with session {} is open for more than {} ms, created at:",
+                            ref.session, threshold.toMillis(), ref.allocationStack);
+                } else {
+                    logger.warn("QueryUtil with session {} is open for more than {} ms", ref.session, threshold.toMillis());
+                }
+            }
+        }
+    }
+
+    /**
+     * Closes the sessions of all tracked instances and stops leak detection until the next instance is tracked.
+     */
+    synchronized void closeAll() {
+        for (TrackedQueryUtil ref : new ArrayList<>(references)) {
+            QueryUtil queryUtil = ref.get();
+            if (queryUtil != null) {
+                queryUtil.closeSession();
+            } else if (ref.session.isOpen()) {
+                ref.session.close();
+            }
+        }
+        references.clear();
+        stopLeakDetection();
+        expunge();
+    }
+
+    /**
+     * Closes the sessions of garbage collected instances.
+     */
+    private void expunge() {
+        TrackedQueryUtil ref;
+        while ((ref = (TrackedQueryUtil) queue.poll()) != null) {
+            if (references.remove(ref) && ref.session.isOpen()) {
+                if (ref.allocationStack != null) {
+                    logger.warn("QueryUtil with session {} was not closed before it was garbage collected, created at:",
+                            ref.session, ref.allocationStack);
+                } else {
+                    logger.debug("Closing session {} of garbage collected QueryUtil", ref.session);
+                }
+                try {
+                    ref.session.close();
+                } catch (RuntimeException _ex) {
+                    logger.debug("Unable to close session {}", ref.session, _ex);
+                }
+            }
+        }
+    }
+
+    private static final class TrackedQueryUtil extends WeakReference<QueryUtil> {
+        /** Current default session of the instance, updated when the instance replaces its session. */
+        private volatile Session session;
+        private final long created;
+        private final Throwable allocationStack;
+        private volatile boolean reported;
+
+        TrackedQueryUtil(QueryUtil _queryUtil, ReferenceQueue<QueryUtil> _queue, boolean _recordStack) {
+            super(_queryUtil, _queue);
+            session = _queryUtil.getDefaultSession();
+            created = System.nanoTime();
+            allocationStack = _recordStack ? new Throwable("QueryUtil allocation") : null;
+        }
+    }
+}
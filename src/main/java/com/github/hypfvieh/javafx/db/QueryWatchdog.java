@@ -0,0 +1,119 @@
+package com.github.hypfvieh.javafx.db;
+
+import java.sql.SQLTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.jpa.QueryHints;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Enforces the timeout of a single {@link QueryUtil} call.
+ * <p>
+ * The timeout is passed to hibernate as JPA query timeout hint, so every statement created in the session
+ * is sent with a JDBC query timeout. As this timeout only works per statement (and with a resolution of seconds),
+ * a watchdog additionally cancels the statement running in the session once the deadline has passed.
+ *
+ * @author hypfvieh
+ * @since v11.0.5 - 2026-10-17
+ */
+final class QueryWatchdog implements AutoCloseable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(QueryWatchdog.class);
+
+    private static ScheduledExecutorService scheduler;
+
+    private final Session session;
+    private final Object previousTimeout;
+    private final ScheduledFuture<?> cancelTask;
+
+    private volatile boolean expired;
+
+    private QueryWatchdog(Session _session, Duration _timeout) {
+        session = _session;
+        previousTimeout = _session.getProperties().get(QueryHints.SPEC_HINT_TIMEOUT);
+
+        // hibernate converts the hint to seconds, round up to not disable the timeout for values below one second
+        int timeoutMs = (int) Math.min(Integer.MAX_VALUE, (_timeout.toMillis() + 999) / 1000 * 1000);
+        setTimeoutHint(timeoutMs);
+
+        cancelTask = getScheduler().schedule(this::expire, _timeout.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Starts watching the given session.
+     *
+     * @param _session session
+     * @param _timeout timeout, null or non-positive to disable
+     * @return watchdog, null if no timeout given
+     */
+    static QueryWatchdog start(Session _session, Duration _timeout) {
+        if (_timeout == null || _timeout.isZero() || _timeout.isNegative()) {
+            return null;
+        }
+        return new QueryWatchdog(_session, _timeout);
+    }
+
+    private void expire() {
+        expired = true;
+        if (!session.isOpen()) {
+            return;
+        }
+        try {
+            session.cancelQuery();
+        } catch (RuntimeException _ex) {
+            LOGGER.debug("Unable to cancel query on session {}", session, _ex);
+        }
+    }
+
+    /**
+     * Returns true if the deadline has passed or the given exception was caused by a statement timeout.
+     */
+    boolean isTimeout(Throwable _ex) {
+        if (expired) {
+            return true;
+        }
+        for (Throwable t = _ex; t != null; t = t.getCause()) {
+            if (t instanceof jakarta.persistence.QueryTimeoutException
+                    || t instanceof org.hibernate.QueryTimeoutException
+                    || t instanceof SQLTimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Stops the watchdog and restores the previous timeout hint of the session.
+     */
+    @Override
+    public void close() {
+        cancelTask.cancel(false);
+        if (session.isOpen()) {
+            setTimeoutHint(previousTimeout == null ? 0 : previousTimeout);
+        }
+    }
+
+    private void setTimeoutHint(Object _timeoutMs) {
+        session.setProperty(QueryHints.SPEC_HINT_TIMEOUT, _timeoutMs);
+        session.setProperty(QueryHints.JAKARTA_SPEC_HINT_TIMEOUT, _timeoutMs);
+    }
+
+    private static synchronized ScheduledExecutorService getScheduler() {
+        if (scheduler == null) {
+            ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, r -> {
+                Thread t = new Thread(r, "QueryUtil-Watchdog");
+                t.setDaemon(true);
+                return t;
+            });
+            // most calls finish in time, do not keep their cancelled tasks in the queue
+            executor.setRemoveOnCancelPolicy(true);
+            scheduler = executor;
+        }
+        return scheduler;
+    }
+}
@@ -0,0 +1,194 @@
+package com.github.hypfvieh.javafx.db;
+
+import java.sql.SQLException;
+import java.sql.SQLTransientException;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
+
+/**
+ * Defines if and when a failed transaction executed by {@link QueryUtil} should be retried.
+ * <p>
+ * The delay between two attempts grows exponentially, starting with the initial delay and being
+ * limited to the maximum delay. A random jitter is subtracted from each delay, so concurrent callers
+ * failing at the same time (e.g. both sides of a deadlock) will not collide again.
+ * <p>
+ * By default, only transient failures ({@link #isTransient(Throwable)}) are retried.
+ * <p>
+ * Example:
+ * <pre>
+ * queryUtil.setRetryPolicy(RetryPolicy.build()
+ *     .withMaxAttempts(5)
+ *     .withBackoff(Duration.ofMillis(20), Duration.ofSeconds(1)));
+ * </pre>
+ *
+ * @author hypfvieh
+ * @since v11.0.5 - 2026-10-17
+ */
+public class RetryPolicy {
+    /** SQL states of failures which may succeed on retry: serialization failure, deadlock (PostgreSQL), lock timeout (H2). */
+    private static final Set<String> TRANSIENT_SQL_STATES = Set.of("40001", "40P01", "HYT00");
+
+    private int maxAttempts = 3;
+    private Duration initialDelay = Duration.ofMillis(50);
+    private Duration maxDelay = Duration.ofSeconds(2);
+    private double multiplier = 2;
+    private double jitter = 0.5;
+    private Predicate<Throwable> retryOn = RetryPolicy::isTransient;
+
+    public RetryPolicy() {}
+
+    public static RetryPolicy build() {
+        return new RetryPolicy();
+    }
+
+    /**
+     * Maximum number of attempts including the first one.
+     * @param _maxAttempts attempts, at least 1
+     * @return this
+     */
+    public RetryPolicy withMaxAttempts(int _maxAttempts) {
+        if (_maxAttempts < 1) {
+            throw new IllegalArgumentException("At least one attempt required");
+        }
+        maxAttempts = _maxAttempts;
+        return this;
+    }
+
+    /**
+     * Delay before the first retry and upper limit of all delays.
+     * @param _initialDelay delay before first retry
+     * @param _maxDelay maximum delay
+     * @return this
+     */
+    public RetryPolicy withBackoff(Duration _initialDelay, Duration _maxDelay) {
+        Objects.requireNonNull(_initialDelay, "Initial delay required");
+        Objects.requireNonNull(_maxDelay, "Maximum delay required");
+        if (_initialDelay.isNegative() || _maxDelay.compareTo(_initialDelay) < 0) {
+            throw new IllegalArgumentException("Maximum delay must not be lower than initial delay");
+        }
+        initialDelay = _initialDelay;
+        maxDelay = _maxDelay;
+        return this;
+    }
+
+    /**
+     * Factor the delay is multiplied with after every attempt.
+     * @param _multiplier multiplier, at least 1
+     * @return this
+     */
+    public RetryPolicy withMultiplier(double _multiplier) {
+        if (_multiplier < 1) {
+            throw new IllegalArgumentException("Multiplier must be at least 1");
+        }
+        multiplier = _multiplier;
+        return this;
+    }
+
+    /**
+     * Part of each delay which will be randomized.
+     * 0 disables jitter, 1 will use a random delay between 0 and the calculated delay.
+     * @param _jitter jitter between 0 and 1
+     * @return this
+     */
+    public RetryPolicy withJitter(double _jitter) {
+        if (_jitter < 0 || _jitter > 1) {
+            throw new IllegalArgumentException("Jitter must be between 0 and 1");
+        }
+        jitter = _jitter;
+        return this;
+    }
+
+    /**
+     * Classifier deciding which exceptions should be retried.
+     * @param _retryOn predicate receiving the thrown exception
+     * @return this
+     */
+    public RetryPolicy withRetryOn(Predicate<Throwable> _retryOn) {
+        retryOn = Objects.requireNonNull(_retryOn, "Classifier required");
+        return this;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public Duration getInitialDelay() {
+        return initialDelay;
+    }
+
+    public Duration getMaxDelay() {
+        return maxDelay;
+    }
+
+    /**
+     * Checks if another attempt should be done after the given attempt failed.
+     *
+     * @param _ex exception thrown
+     * @param _attempt number of the failed attempt, starting with 1
+     * @return true to retry
+     */
+    public boolean shouldRetry(Throwable _ex, int _attempt) {
+        return _attempt < maxAttempts && retryOn.test(_ex);
+    }
+
+    /**
+     * Calculates the delay before the next attempt.
+     *
+     * @param _attempt number of the failed attempt, starting with 1
+     * @return delay in milliseconds
+     */
+    public long getDelayMillis(int _attempt) {
+        double delay = initialDelay.toMillis() * Math.pow(multiplier, Math.max(0, _attempt - 1));
+        delay = Math.min(delay, maxDelay.toMillis());
+        if (jitter > 0) {
+            delay -= delay * jitter * ThreadLocalRandom.current().nextDouble();
+        }
+        return Math.round(delay);
+    }
+
+    /**
+     * Default classifier: returns true for exceptions caused by lock conflicts, deadlocks,
+     * optimistic locking failures or other transient SQL errors.
+     * SQL errors are classified by their SQL state if available, only serialization failures (40001),
+     * deadlocks (40P01) and lock timeouts (HYT00) are considered transient.
+     * Timeouts of {@link QueryUtil} calls ({@link QueryTimeoutException}) are never retried.
+     *
+     * @param _ex exception
+     * @return true if exception is considered transient
+     */
+    public static boolean isTransient(Throwable _ex) {
+        if (_ex instanceof QueryTimeoutException) {
+            return false;
+        }
+        for (Throwable t = _ex; t != null; t = t.getCause()) {
+            if (t instanceof SQLException && ((SQLException) t).getSQLState() != null) {
+                String state = ((SQLException) t).getSQLState();
+                if (TRANSIENT_SQL_STATES.contains(state)) {
+                    return true;
+                } else if (state.startsWith("40")) {
+                    // other transaction rollbacks (e.g. 40002 integrity constraint violation) fail again on retry
+                    return false;
+                }
+            }
+            if (t instanceof jakarta.persistence.PessimisticLockException
+                    || t instanceof jakarta.persistence.LockTimeoutException
+                    || t instanceof jakarta.persistence.OptimisticLockException
+                    || t instanceof org.hibernate.PessimisticLockException
+                    || t instanceof org.hibernate.StaleStateException
+                    || t instanceof org.hibernate.exception.LockAcquisitionException
+                    || t instanceof SQLTransientException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [maxAttempts=" + maxAttempts + ", initialDelay=" + initialDelay
+            + ", maxDelay=" + maxDelay + ", multiplier=" + multiplier + ", jitter=" + jitter + "]";
+    }
+}
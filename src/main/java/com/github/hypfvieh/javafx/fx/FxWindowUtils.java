@@ -3,14 +3,15 @@ package com.github.hypfvieh.javafx.fx;
 import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.lang.ref.WeakReference;
-import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiConsumer;
@@ -25,9 +26,11 @@ import com.github.hypfvieh.javafx.windows.interfaces.ICustomInitialize;
 import com.github.hypfvieh.javafx.windows.interfaces.IKeyboardShortcut;
 import com.github.hypfvieh.javafx.windows.interfaces.IObjectConsumer;
 import com.github.hypfvieh.javafx.windows.interfaces.IResultProvider;
+import com.github.hypfvieh.javafx.windows.interfaces.IReusableWindow;
 import com.github.hypfvieh.javafx.windows.interfaces.ISaveOnClose;
 import com.github.hypfvieh.javafx.windows.interfaces.IStageControllerAware;
 import com.github.hypfvieh.javafx.windowsaver.WindowPositionSaver;
+import com.github.hypfvieh.javafx.windowsaver.WindowStateService;
 
 import javafx.application.Platform;
 import javafx.beans.value.ChangeListener;
@@ -36,7 +39,6 @@ import javafx.collections.ObservableList;
 import javafx.event.EventHandler;
 import javafx.fxml.FXMLLoader;
 import javafx.fxml.Initializable;
-import javafx.fxml.JavaFXBuilderFactory;
 import javafx.scene.Node;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
@@ -161,6 +163,8 @@ public class FxWindowUtils {
             WindowOptions _windowOptions, String _title, Object _controllerInstance, Callback<Class<?>, Object> _controllerFactory, Class<C> _resultClass, T _obj) {
 
         WindowOptions windowOptions = _windowOptions == null ? new WindowOptions() : _windowOptions;
+        WindowStateService windowStateService = windowOptions.getWindowStateService() == null
+                ? WindowPositionSaver.getDefaultService() : windowOptions.getWindowStateService();
 
         if (windowOptions.isOnlyOnce() && OPENED_WINDOWS.containsKey(_fXmlFile)) {
             throw new WindowAlreadyOpenedException(OPENED_WINDOWS.get(_fXmlFile).get(), "Window " + _fXmlFile + " already opened");
@@ -171,38 +175,20 @@ public class FxWindowUtils {
             rootClass = FxWindowUtils.class;
         }
         try {
-            URL url = rootClass.getClassLoader().getResource(_fXmlFile);
-            if (url == null) {
-                throw new NullPointerException("FXML resource " + _fXmlFile + " could not be found using classloader of " + rootClass.getName());
+            WindowPool.PoolKey poolKey = null;
+            if (windowOptions.getPoolSize() > 0 && !_useRootStage && _controllerInstance == null) {
+                poolKey = new WindowPool.PoolKey(rootClass, _fXmlFile, _rootStage, _modal, _controllerFactory, windowOptions);
             }
 
-            FXMLLoader fxmlloader = new FXMLLoader(url);
-            fxmlloader.setBuilderFactory(new JavaFXBuilderFactory());
-
-            if (_controllerFactory != null) { // custom factory
-                fxmlloader.setControllerFactory(_controllerFactory);
-
-            } else if (_controllerInstance != null) { // pass custom controller
-                fxmlloader.setControllerFactory(_param -> _controllerInstance);
-            }
-
-            fxmlloader.load();
-
-            Object controller = fxmlloader.getController();
-
-            Stage stage ;
-            if (_useRootStage) {
-                stage = _rootStage;
-            } else {
-                stage = new Stage();
-                stage.initOwner(_rootStage);
+            WindowPool.PooledWindow window = poolKey == null ? null : WindowPool.acquire(poolKey);
+            if (window == null) {
+                window = createWindow(_rootStage, rootClass, _useRootStage, _fXmlFile, _modal, windowOptions, _controllerInstance, _controllerFactory, poolKey);
             }
 
-            stage.setUserData(controller);
-
-            if (controller instanceof BaseWindowController) {
-                ((BaseWindowController) controller).setControllerStage(stage);
-            }
+            WindowPool.PooledWindow pooledWindow = window;
+            Stage stage = window.getStage();
+            Object controller = window.getController();
+            Parent root = window.getRoot();
 
             if (_obj != null && !(controller instanceof IObjectConsumer)) {
                 throw new IllegalArgumentException("Controller configured in FXML " + _fXmlFile + " does not implement required interface " + IObjectConsumer.class.getName());
@@ -216,90 +202,13 @@ public class FxWindowUtils {
                 ((IObjectConsumer<T>) controller).setValue(_obj);
             }
 
-            Parent root = fxmlloader.getRoot();
-
-
-            stage.initModality(_modal);
             stage.setTitle(_title);
 
-            if (windowOptions.isResizeable() != null) {
-                stage.setResizable(windowOptions.isResizeable());
-            }
-
-            if (windowOptions.isMaximize() != null) {
-                stage.setMaximized(windowOptions.isMaximize());
-            }
-
-            if (windowOptions.isAlwaysOnTop()) {
-                stage.setAlwaysOnTop(true);
-            } else if (windowOptions.isCloseOnFocusLost()) {
-                stage.focusedProperty().addListener(new ChangeListener<Boolean>() {
-
-                    @Override
-                    public void changed(ObservableValue<? extends Boolean> _observable, Boolean _oldValue,
-                            Boolean _newValue) {
-                        if (_newValue != null && _newValue == false) {
-                            stage.close();
-                        }
-                    }
-                });
-            }
-
-            if (windowOptions.getWidth() > 0) {
-                stage.setWidth(windowOptions.getWidth());
-            }
-            if (windowOptions.getHeight() > 0) {
-                stage.setHeight(windowOptions.getHeight());
-            }
-            ArrayList<String> icons = new ArrayList<>(windowOptions.getIcons());
-            icons.add("images/" + controller.getClass().getSimpleName() + ".png");
-            icons.add(default_window_icon);
-            loadStageIcons(icons, stage);
-
-            Scene scene = new Scene(root);
-
-            if (!windowOptions.getCssStyleSheets().isEmpty()) {
-                scene.getStylesheets().addAll(windowOptions.getCssStyleSheets());
-            }
-
-            if (controller instanceof ICssStyle) {
-                ICssStyle cssStyle = (ICssStyle) controller;
-                List<String> cssStyleFiles = cssStyle.getCssStyleFiles();
-                if (cssStyleFiles != null && !cssStyleFiles.isEmpty()) {
-                    scene.getStylesheets().addAll(cssStyle.getCssStyleFiles());
-                    if (!cssStyle.replaceDefaultStyles()) {
-                        scene.getStylesheets().addAll(CSS_THEMES);
-                    }
-                }
-            } else {
-                scene.getStylesheets().addAll(CSS_THEMES);
-            }
-            if (controller instanceof IKeyboardShortcut && ((IKeyboardShortcut) controller).getGlobalShortcuts() != null) {
-                for (Entry<KeyCombination, Runnable> e : ((IKeyboardShortcut) controller).getGlobalShortcuts().entrySet()) {
-
-                    scene.addEventFilter(KeyEvent.KEY_PRESSED, new EventHandler<KeyEvent>() {
-                        final KeyCombination keyComb = e.getKey();
-
-                        @Override
-                        public void handle(KeyEvent _event) {
-                            if (keyComb.match(_event)) {
-                                e.getValue().run();
-                                _event.consume(); // consume event
-                            }
-                        }
-                    });
-                }
-            }
-
-            stage.setScene(scene);
-
             // center window to parent stage
             if (!_useRootStage && _rootStage != null) {
-                // show stage and hide it again, required to set the height/width of the new stage for calculation
-                stage.show();
-                stage.hide();
-                stage.setX((_rootStage.getX() + _rootStage.getWidth() / 2 - stage.getWidth() / 2) + 10);
-                stage.setY((_rootStage.getY() + _rootStage.getHeight() / 2 - stage.getHeight() / 2) + 10);
+                double[] size = computeStageSize(stage, _rootStage);
+                stage.setX((_rootStage.getX() + _rootStage.getWidth() / 2 - size[0] / 2) + 10);
+                stage.setY((_rootStage.getY() + _rootStage.getHeight() / 2 - size[1] / 2) + 10);
             }
 
             AtomicBoolean systemClosedButtonUsed = new AtomicBoolean(false);
@@ -320,7 +229,7 @@ public class FxWindowUtils {
                 }
 
                 OPENED_WINDOWS.remove(_fXmlFile);
-                WindowPositionSaver.saveWindowPosition(c, stage);
+                windowStateService.saveWindowPosition(c, stage);
             });
 
             // do custom initialize as late as possible so we have stage and scene ready to use in controller when
@@ -328,12 +237,13 @@ public class FxWindowUtils {
             stage.setOnShown(ev -> {
                 Initializable c = (Initializable) controller;
 
-                if (controller instanceof ICustomInitialize) {
+                // reused windows have already been initialized when they were shown first
+                if (controller instanceof ICustomInitialize && pooledWindow.markInitialized()) {
                     ((ICustomInitialize) controller).customInitialize();
                 }
-                if (WindowPositionSaver.isEnabled()) {
+                if (windowStateService.isEnabled()) {
                     // restore window settings after stage has been initialized
-                    WindowPositionSaver.restoreWindowPosition(c, stage, root);
+                    windowStateService.restoreWindowPosition(c, stage, root);
                     if (windowOptions.isForceFullScreen()) {
                         ObservableList<Screen> screensForRectangle = Screen.getScreensForRectangle(stage.getX(), stage.getY(), stage.getWidth(), stage.getHeight());
                         if (!screensForRectangle.isEmpty()) {
@@ -355,25 +265,34 @@ public class FxWindowUtils {
                 OPENED_WINDOWS.put(_fXmlFile, new WeakReference<>(stage));
             }
 
+            if (window.isPooled() && !_wait) {
+                releaseToPoolWhenHidden(window);
+            }
+
             if (_wait) {
                 stage.showAndWait();
             } else {
                 stage.show();
             }
 
-            if (controller instanceof Closeable) {
+            // controllers of pooled windows are closed when the window is removed from the pool
+            if (!window.isPooled() && controller instanceof Closeable) {
                 ((Closeable) controller).close();
             }
 
+            C result = null;
             // return a proper result if we have a return class and the controller is an instance of IResultProvider
             if (_resultClass != null && controller instanceof IResultProvider) {
                 // controller should not return a value when system close is used
-                if (!((IResultProvider<?>) controller).returnValueOnSystemClose() && systemClosedButtonUsed.get()) {
-                    return null;
+                if (((IResultProvider<?>) controller).returnValueOnSystemClose() || !systemClosedButtonUsed.get()) {
+                    result = ((IResultProvider<C>) controller).getValue();
                 }
+            }
 
-                return ((IResultProvider<C>) controller).getValue();
+            if (window.isPooled() && _wait) {
+                WindowPool.release(window);
             }
+            return result;
         } catch (RuntimeException _ex) {
             throw _ex;
         } catch (Exception _ex) {
@@ -382,6 +301,265 @@ public class FxWindowUtils {
         return null;
     }
 
+    /**
+     * Loads the FXML file and creates the stage and scene of a new window.
+     *
+     * @param _poolKey key of the pool the window will be returned to, null if window should not be pooled
+     * @return window
+     *
+     * @throws IOException if FXML file could not be loaded
+     */
+    private static WindowPool.PooledWindow createWindow(Stage _rootStage, Class<?> _rootClass, boolean _useRootStage, String _fXmlFile, Modality _modal,
+            WindowOptions _windowOptions, Object _controllerInstance, Callback<Class<?>, Object> _controllerFactory, WindowPool.PoolKey _poolKey) throws IOException {
+
+        FxmlTemplateCache.FxmlTemplate template = FxmlTemplateCache.getTemplate(_rootClass, _fXmlFile);
+        FXMLLoader fxmlloader = template.createLoader();
+
+        if (_controllerFactory != null) { // custom factory
+            fxmlloader.setControllerFactory(_controllerFactory);
+
+        } else if (_controllerInstance != null) { // pass custom controller
+            fxmlloader.setControllerFactory(_param -> _controllerInstance);
+        }
+
+        template.load(fxmlloader);
+
+        Object controller = fxmlloader.getController();
+
+        Stage stage ;
+        if (_useRootStage) {
+            stage = _rootStage;
+        } else {
+            stage = new Stage();
+            stage.initOwner(_rootStage);
+        }
+
+        stage.setUserData(controller);
+
+        if (controller instanceof BaseWindowController) {
+            ((BaseWindowController) controller).setControllerStage(stage);
+        }
+
+        Parent root = fxmlloader.getRoot();
+
+        stage.initModality(_modal);
+
+        if (_windowOptions.isResizeable() != null) {
+            stage.setResizable(_windowOptions.isResizeable());
+        }
+
+        if (_windowOptions.isMaximize() != null) {
+            stage.setMaximized(_windowOptions.isMaximize());
+        }
+
+        if (_windowOptions.isAlwaysOnTop()) {
+            stage.setAlwaysOnTop(true);
+        } else if (_windowOptions.isCloseOnFocusLost()) {
+            stage.focusedProperty().addListener(new ChangeListener<Boolean>() {
+
+                @Override
+                public void changed(ObservableValue<? extends Boolean> _observable, Boolean _oldValue,
+                        Boolean _newValue) {
+                    if (_newValue != null && _newValue == false) {
+                        stage.close();
+                    }
+                }
+            });
+        }
+
+        if (_windowOptions.getWidth() > 0) {
+            stage.setWidth(_windowOptions.getWidth());
+        }
+        if (_windowOptions.getHeight() > 0) {
+            stage.setHeight(_windowOptions.getHeight());
+        }
+        ArrayList<String> icons = new ArrayList<>(_windowOptions.getIcons());
+        icons.add("images/" + controller.getClass().getSimpleName() + ".png");
+        icons.add(default_window_icon);
+        loadStageIcons(icons, stage);
+
+        Scene scene = new Scene(root);
+
+        if (!_windowOptions.getCssStyleSheets().isEmpty()) {
+            scene.getStylesheets().addAll(_windowOptions.getCssStyleSheets());
+        }
+
+        if (controller instanceof ICssStyle) {
+            ICssStyle cssStyle = (ICssStyle) controller;
+            List<String> cssStyleFiles = cssStyle.getCssStyleFiles();
+            if (cssStyleFiles != null && !cssStyleFiles.isEmpty()) {
+                scene.getStylesheets().addAll(cssStyle.getCssStyleFiles());
+                if (!cssStyle.replaceDefaultStyles()) {
+                    scene.getStylesheets().addAll(CSS_THEMES);
+                }
+            }
+        } else {
+            scene.getStylesheets().addAll(CSS_THEMES);
+        }
+        if (controller instanceof IKeyboardShortcut && ((IKeyboardShortcut) controller).getGlobalShortcuts() != null) {
+            for (Entry<KeyCombination, Runnable> e : ((IKeyboardShortcut) controller).getGlobalShortcuts().entrySet()) {
+
+                scene.addEventFilter(KeyEvent.KEY_PRESSED, new EventHandler<KeyEvent>() {
+                    final KeyCombination keyComb = e.getKey();
+
+                    @Override
+                    public void handle(KeyEvent _event) {
+                        if (keyComb.match(_event)) {
+                            e.getValue().run();
+                            _event.consume(); // consume event
+                        }
+                    }
+                });
+            }
+        }
+
+        stage.setScene(scene);
+
+        boolean pooled = _poolKey != null && controller instanceof IReusableWindow;
+        if (_poolKey != null && !pooled) {
+            LOGGER.debug("Controller of {} does not implement {}, window will not be pooled", _fXmlFile, IReusableWindow.class.getSimpleName());
+        }
+        return new WindowPool.PooledWindow(pooled ? _poolKey : null, _windowOptions.getPoolSize(), stage, root, controller);
+    }
+
+    /**
+     * Calculates the size the given stage will have when it is shown.
+     * <p>
+     * If the stage has not been shown before and no explicit size was set, the preferred size of the scene
+     * is calculated from the scene graph, so the stage does not have to be shown to get its size.
+     * The scene size does not contain the window decorations (title bar, borders), which are only known
+     * once the stage is shown. If the given owner is showing and uses the same {@link javafx.stage.StageStyle},
+     * its decoration size is added instead. Otherwise the returned size is smaller than the shown stage
+     * by the size of the decorations, so a centered window is moved by half of it.
+     *
+     * @param _stage stage with scene
+     * @param _owner stage used to estimate the size of the window decorations, may be null
+     * @return double array, 0: width, 1: height
+     */
+    static double[] computeStageSize(Stage _stage, Stage _owner) {
+        double width = _stage.getWidth();
+        double height = _stage.getHeight();
+        if (!Double.isNaN(width) && !Double.isNaN(height)) {
+            return new double[] {width, height};
+        }
+
+        double decorationWidth = 0;
+        double decorationHeight = 0;
+        if (_owner != null && _owner.isShowing() && _owner.getScene() != null && _owner.getStyle() == _stage.getStyle()) {
+            decorationWidth = Math.max(0, _owner.getWidth() - _owner.getScene().getWidth());
+            decorationHeight = Math.max(0, _owner.getHeight() - _owner.getScene().getHeight());
+        }
+
+        Parent root = _stage.getScene().getRoot();
+        // styles may change paddings, borders and fonts which are required to calculate the preferred size
+        root.applyCss();
+        if (Double.isNaN(width)) {
+            width = root.prefWidth(-1) + decorationWidth;
+        }
+        if (Double.isNaN(height)) {
+            height = root.prefHeight(width - decorationWidth) + decorationHeight;
+        }
+        return new double[] {width, height};
+    }
+
+    /**
+     * Returns the given window to its pool as soon as it has been closed.
+     * The check is done later, because the window may be hidden and shown again while restoring its position.
+     *
+     * @param _window pooled window
+     */
+    private static void releaseToPoolWhenHidden(WindowPool.PooledWindow _window) {
+        Stage stage = _window.getStage();
+        stage.addEventHandler(WindowEvent.WINDOW_HIDDEN, new EventHandler<WindowEvent>() {
+            @Override
+            public void handle(WindowEvent _event) {
+                Platform.runLater(() -> {
+                    if (!stage.isShowing()) {
+                        stage.removeEventHandler(WindowEvent.WINDOW_HIDDEN, this);
+                        WindowPool.release(_window);
+                    }
+                });
+            }
+        });
+    }
+
+    /**
+     * Creates hidden windows for the given FXML file in background, so they can be shown without loading the FXML file.
+     * <p>
+     * The number of windows is configured by {@link WindowOptions#withPoolSize(int)}.
+     * The windows are only used by calls to {@link #showWindowWithValueAndReturn(Stage, Class, boolean, String, boolean, Modality, WindowOptions, String, Object, Callback, Class, Object)}
+     * using the same FXML file, owner, modality, controller factory and window options.
+     * The controller has to implement {@link IReusableWindow}.
+     * The owner has to be shown already, the windows are discarded when the owner is closed.
+     * <p>
+     * The FXML file is read in background, the windows are created one by one on the JavaFX application thread
+     * so the application stays responsive.
+     *
+     * @param _owner owner of the windows
+     * @param _rootClass class to use to find fxml files
+     * @param _fXmlFile FXML UI file to load
+     * @param _modal modality mode
+     * @param _windowOptions window options, has to contain a pool size
+     * @param _controllerFactory custom controller factory, maybe null
+     *
+     * @since v11.0.5 - 2026-10-17
+     */
+    public static void prewarmWindows(Stage _owner, Class<?> _rootClass, String _fXmlFile, Modality _modal,
+            WindowOptions _windowOptions, Callback<Class<?>, Object> _controllerFactory) {
+        Objects.requireNonNull(_windowOptions, "Window options cannot be null");
+        if (_windowOptions.getPoolSize() <= 0) {
+            throw new IllegalArgumentException("Window options have to define a pool size to prewarm windows");
+        }
+        Class<?> rootClass = _rootClass == null ? FxWindowUtils.class : _rootClass;
+        WindowPool.PoolKey poolKey = new WindowPool.PoolKey(rootClass, _fXmlFile, _owner, _modal, _controllerFactory, _windowOptions);
+
+        CompletableFuture.runAsync(() -> {
+            try {
+                FxmlTemplateCache.getTemplate(rootClass, _fXmlFile);
+            } catch (IOException _ex) {
+                throw new UncheckedIOException(_ex);
+            }
+        }).whenComplete((v, ex) -> {
+            if (ex != null) {
+                LOGGER.error("Unable to prewarm window {}", _fXmlFile, ex);
+            } else {
+                Platform.runLater(() -> prewarmNextWindow(_owner, rootClass, _fXmlFile, _modal, _windowOptions, _controllerFactory, poolKey));
+            }
+        });
+    }
+
+    private static void prewarmNextWindow(Stage _owner, Class<?> _rootClass, String _fXmlFile, Modality _modal,
+            WindowOptions _windowOptions, Callback<Class<?>, Object> _controllerFactory, WindowPool.PoolKey _poolKey) {
+        if (WindowPool.size(_poolKey) >= _windowOptions.getPoolSize()) {
+            return;
+        } else if (_owner != null && !_owner.isShowing()) {
+            LOGGER.debug("Owner of {} is not showing, windows are not prewarmed", _fXmlFile);
+            return;
+        }
+        try {
+            WindowPool.PooledWindow window = createWindow(_owner, _rootClass, false, _fXmlFile, _modal, _windowOptions, null, _controllerFactory, _poolKey);
+            // window was discarded (e.g. reset failed), creating more windows would fail the same way
+            if (!WindowPool.release(window)) {
+                return;
+            }
+        } catch (IOException | RuntimeException _ex) {
+            LOGGER.error("Unable to prewarm window {}", _fXmlFile, _ex);
+            return;
+        }
+        // create one window per pulse, so the application stays responsive
+        Platform.runLater(() -> prewarmNextWindow(_owner, _rootClass, _fXmlFile, _modal, _windowOptions, _controllerFactory, _poolKey));
+    }
+
+    /**
+     * Removes all windows kept for reuse (see {@link WindowOptions#withPoolSize(int)}).
+     * Must be called on the JavaFX application thread.
+     *
+     * @since v11.0.5 - 2026-10-17
+     */
+    public static void clearWindowPool() {
+        WindowPool.clear();
+    }
+
     /**
      * Loads all icons in the given list and adds them as possible stage icon.<br>
      * If {@code null} or empty list of icons is given, nothing will be done.
@@ -726,6 +904,15 @@ public class FxWindowUtils {
 
         private List<String> cssStyleSheets = new ArrayList<>();
 
+        /**
+         * Maximum number of closed windows kept for reuse, 0 to disable.
+         * Only used for windows with a controller implementing {@link IReusableWindow}.
+         */
+        private int poolSize;
+
+        /** Service used to save/restore the window position, null to use the default of {@link WindowPositionSaver}. */
+        private WindowStateService windowStateService;
+
         public WindowOptions() {}
 
         public static WindowOptions build() {
@@ -851,6 +1038,38 @@ public class FxWindowUtils {
             return this;
         }
 
+        public int getPoolSize() {
+            return poolSize;
+        }
+
+        /**
+         * Keep up to the given number of closed windows, so they can be shown again without loading the FXML file.
+         * <p>
+         * Only windows with a controller implementing {@link IReusableWindow} are kept.
+         * A window is only reused for the same owner and equal options (e.g. size, icons and style sheets).
+         * Kept windows are discarded when their owner is closed.
+         * {@link ICustomInitialize#customInitialize()} is only called when a window is shown the first time,
+         * the run on show action (see {@link #withRunOnShow(BiConsumer)}) every time it is shown.
+         * Windows can be created in advance using {@link FxWindowUtils#prewarmWindows(Stage, Class, String, Modality, WindowOptions, Callback)}.
+         *
+         * @param _poolSize maximum number of windows per FXML file, 0 to disable
+         * @return this
+         * @since v11.0.5 - 2026-10-17
+         */
+        public WindowOptions withPoolSize(int _poolSize) {
+            poolSize = Math.max(0, _poolSize);
+            return this;
+        }
+
+        public WindowStateService getWindowStateService() {
+            return windowStateService;
+        }
+
+        public WindowOptions withWindowStateService(WindowStateService _windowStateService) {
+            windowStateService = _windowStateService;
+            return this;
+        }
+
     }
 
     /**
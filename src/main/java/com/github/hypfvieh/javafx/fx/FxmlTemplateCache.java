@@ -0,0 +1,188 @@
+package com.github.hypfvieh.javafx.fx;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.SoftReference;
+import java.net.URL;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import javafx.fxml.FXMLLoader;
+import javafx.fxml.JavaFXBuilderFactory;
+import javafx.util.Builder;
+import javafx.util.BuilderFactory;
+
+/**
+ * Cache for FXML files loaded by {@link FxWindowUtils}.
+ * <p>
+ * The resource lookup and reading of every FXML file is only done once, later loads use the cached content.
+ * All loaders share one {@link JavaFXBuilderFactory} per class loader, so the results of the builder lookup
+ * for each class are reused as well.
+ * <p>
+ * {@link FXMLLoader} does not support copying a loaded scene graph, so every load still creates new nodes and
+ * a new controller from the cached content.
+ * <p>
+ * Disable the cache (see {@link #setEnabled(boolean)}) if FXML files are changed while the application is running
+ * (e.g. during development).
+ * <p>
+ * Cached templates and builder factories reference the class loader they were created for, so they are only
+ * softly referenced. They do not prevent class loaders of unloaded modules from being collected.
+ *
+ * @author hypfvieh
+ * @since v11.0.5 - 2026-10-17
+ */
+public final class FxmlTemplateCache {
+    /** Templates by class loader used to find the FXML file and FXML file name. */
+    private static final Map<ClassLoader, SoftReference<Map<String, FxmlTemplate>>> TEMPLATES = new WeakHashMap<>();
+    /** Builder factories by default class loader of {@link FXMLLoader}. */
+    private static final Map<ClassLoader, SoftReference<BuilderFactory>> BUILDER_FACTORIES = new WeakHashMap<>();
+
+    private static volatile boolean enabled = true;
+
+    private FxmlTemplateCache() {
+    }
+
+    /**
+     * Enable or disable the cache.
+     * Disabling the cache also removes all cached files.
+     *
+     * @param _enabled true to enable, false to disable
+     */
+    public static void setEnabled(boolean _enabled) {
+        enabled = _enabled;
+        if (!_enabled) {
+            clear();
+        }
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Removes all cached files.
+     */
+    public static void clear() {
+        synchronized (TEMPLATES) {
+            TEMPLATES.clear();
+        }
+    }
+
+    /**
+     * Returns the template for the given FXML file.
+     *
+     * @param _rootClass class whose class loader is used to find the FXML file
+     * @param _fXmlFile FXML file
+     * @return FxmlTemplate, never null
+     *
+     * @throws NullPointerException if FXML file could not be found
+     * @throws IOException if FXML file could not be read
+     */
+    static FxmlTemplate getTemplate(Class<?> _rootClass, String _fXmlFile) throws IOException {
+        ClassLoader classLoader = _rootClass.getClassLoader();
+        Map<String, FxmlTemplate> templates = null;
+        if (enabled) {
+            templates = getOrCreate(TEMPLATES, classLoader, ConcurrentHashMap::new);
+            FxmlTemplate template = templates.get(_fXmlFile);
+            if (template != null) {
+                return template;
+            }
+        }
+
+        URL url = classLoader.getResource(_fXmlFile);
+        if (url == null) {
+            throw new NullPointerException("FXML resource " + _fXmlFile + " could not be found using classloader of " + _rootClass.getName());
+        }
+
+        byte[] content;
+        try (InputStream in = url.openStream()) {
+            content = in.readAllBytes();
+        }
+
+        FxmlTemplate template = new FxmlTemplate(url, content);
+        if (templates != null) {
+            templates.put(_fXmlFile, template);
+        }
+        return template;
+    }
+
+    /**
+     * Returns the shared builder factory for the current default class loader of {@link FXMLLoader}.
+     * {@link JavaFXBuilderFactory} is not thread safe, so the returned factory synchronizes all calls.
+     *
+     * @return BuilderFactory
+     */
+    private static BuilderFactory getBuilderFactory() {
+        ClassLoader classLoader = FXMLLoader.getDefaultClassLoader();
+        return getOrCreate(BUILDER_FACTORIES, classLoader, () -> {
+            JavaFXBuilderFactory factory = new JavaFXBuilderFactory(classLoader);
+            return new BuilderFactory() {
+                @Override
+                public synchronized Builder<?> getBuilder(Class<?> _type) {
+                    return factory.getBuilder(_type);
+                }
+            };
+        });
+    }
+
+    /**
+     * Returns the softly referenced value of the given class loader, creating a new value if there is none
+     * or if it has been cleared.
+     */
+    private static <T> T getOrCreate(Map<ClassLoader, SoftReference<T>> _map, ClassLoader _classLoader, Supplier<T> _factory) {
+        synchronized (_map) {
+            SoftReference<T> ref = _map.get(_classLoader);
+            T value = ref == null ? null : ref.get();
+            if (value == null) {
+                value = _factory.get();
+                _map.put(_classLoader, new SoftReference<>(value));
+            }
+            return value;
+        }
+    }
+
+    /**
+     * Location and content of a FXML file.
+     */
+    static final class FxmlTemplate {
+        private final URL url;
+        private final byte[] content;
+
+        FxmlTemplate(URL _url, byte[] _content) {
+            url = _url;
+            content = _content;
+        }
+
+        /**
+         * Creates a new loader for this template.
+         * Use {@link #load(FXMLLoader)} to load the template after configuring the loader.
+         *
+         * @return FXMLLoader
+         */
+        FXMLLoader createLoader() {
+            FXMLLoader loader = new FXMLLoader(url);
+            loader.setBuilderFactory(getBuilderFactory());
+            return loader;
+        }
+
+        /**
+         * Loads the cached content using the given loader.
+         *
+         * @param _loader loader created by {@link #createLoader()}
+         * @param <T> root type
+         * @return loaded root
+         *
+         * @throws IOException if loading fails
+         */
+        <T> T load(FXMLLoader _loader) throws IOException {
+            return _loader.load(new ByteArrayInputStream(content));
+        }
+
+        URL getUrl() {
+            return url;
+        }
+    }
+}
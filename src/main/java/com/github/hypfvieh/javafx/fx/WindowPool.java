@@ -0,0 +1,291 @@
+package com.github.hypfvieh.javafx.fx;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.hypfvieh.javafx.fx.FxWindowUtils.WindowOptions;
+import com.github.hypfvieh.javafx.windows.interfaces.IReusableWindow;
+
+import javafx.application.Platform;
+import javafx.event.EventHandler;
+import javafx.scene.Parent;
+import javafx.stage.Modality;
+import javafx.stage.Stage;
+import javafx.stage.WindowEvent;
+import javafx.util.Callback;
+
+/**
+ * Pool of hidden, fully initialized windows which can be shown again without loading the FXML file.
+ * <p>
+ * Windows are pooled by FXML file, owner, modality and controller factory, because owner and modality
+ * of a stage cannot be changed after it was shown.
+ * The window options applied when the window is created (e.g. size, icons, style sheets) are part of the key as well,
+ * so a window is never reused by a caller requesting different options.
+ * Only windows with a controller implementing {@link IReusableWindow} are pooled.
+ * <p>
+ * Pooled windows keep a reference to their owner, so all pools of an owner are discarded when the owner is hidden.
+ * <p>
+ * Must only be used on the JavaFX application thread.
+ *
+ * @author hypfvieh
+ * @since v11.0.5 - 2026-10-17
+ */
+final class WindowPool {
+    private static final Logger LOGGER = LoggerFactory.getLogger(WindowPool.class);
+
+    private static final Map<PoolKey, Deque<PooledWindow>> POOLS = new HashMap<>();
+    /** Owners which will discard their pools when they are hidden. */
+    private static final Set<Stage> WATCHED_OWNERS = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    private WindowPool() {
+    }
+
+    /**
+     * Takes a window from the pool.
+     *
+     * @param _key pool key
+     * @return pooled window or null if pool is empty
+     */
+    static PooledWindow acquire(PoolKey _key) {
+        Deque<PooledWindow> pool = POOLS.get(_key);
+        return pool == null ? null : pool.pollFirst();
+    }
+
+    /**
+     * Resets the given window and puts it back into its pool.
+     * The window is discarded if the pool is full, the owner is no longer showing or the reset failed.
+     *
+     * @param _window window to release
+     * @return true if the window was added to its pool
+     */
+    static boolean release(PooledWindow _window) {
+        if (!_window.isPooled() || _window.isShowing()) {
+            return false;
+        }
+
+        Stage owner = _window.getKey().owner;
+        Deque<PooledWindow> pool = POOLS.get(_window.getKey());
+        if (pool != null && pool.contains(_window)) {
+            return false;
+        } else if (owner != null && !owner.isShowing()) {
+            // owner already closed, keeping the window would keep the owner as well
+            discard(_window);
+            return false;
+        } else if (pool != null && pool.size() >= _window.getMaxPoolSize()) {
+            discard(_window);
+            return false;
+        }
+
+        try {
+            ((IReusableWindow) _window.getController()).resetForReuse();
+        } catch (RuntimeException _ex) {
+            LOGGER.warn("Unable to reset window {} for reuse", _window.getKey().fxmlFile, _ex);
+            discard(_window);
+            return false;
+        }
+        if (pool == null) {
+            pool = new ArrayDeque<>();
+            POOLS.put(_window.getKey(), pool);
+            watchOwner(owner);
+        }
+        pool.addFirst(_window);
+        return true;
+    }
+
+    /**
+     * Number of windows currently available in the pool of the given key.
+     *
+     * @param _key pool key
+     * @return int
+     */
+    static int size(PoolKey _key) {
+        Deque<PooledWindow> pool = POOLS.get(_key);
+        return pool == null ? 0 : pool.size();
+    }
+
+    /**
+     * Removes all pooled windows.
+     */
+    static void clear() {
+        for (Deque<PooledWindow> pool : POOLS.values()) {
+            pool.forEach(WindowPool::discard);
+        }
+        POOLS.clear();
+    }
+
+    /**
+     * Removes all pooled windows owned by the given stage.
+     *
+     * @param _owner owner
+     */
+    static void clear(Stage _owner) {
+        Iterator<Entry<PoolKey, Deque<PooledWindow>>> it = POOLS.entrySet().iterator();
+        while (it.hasNext()) {
+            Entry<PoolKey, Deque<PooledWindow>> entry = it.next();
+            if (entry.getKey().owner == _owner) {
+                entry.getValue().forEach(WindowPool::discard);
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * Discards all pools of the given owner as soon as the owner has been closed.
+     * The check is done later, because the owner may be hidden and shown again while restoring its position.
+     *
+     * @param _owner owner, may be null
+     */
+    private static void watchOwner(Stage _owner) {
+        if (_owner == null || !WATCHED_OWNERS.add(_owner)) {
+            return;
+        }
+        _owner.addEventHandler(WindowEvent.WINDOW_HIDDEN, new EventHandler<WindowEvent>() {
+            @Override
+            public void handle(WindowEvent _event) {
+                Platform.runLater(() -> {
+                    if (!_owner.isShowing()) {
+                        _owner.removeEventHandler(WindowEvent.WINDOW_HIDDEN, this);
+                        WATCHED_OWNERS.remove(_owner);
+                        clear(_owner);
+                    }
+                });
+            }
+        });
+    }
+
+    private static void discard(PooledWindow _window) {
+        if (_window.getController() instanceof Closeable) {
+            try {
+                ((Closeable) _window.getController()).close();
+            } catch (IOException _ex) {
+                LOGGER.debug("Unable to close controller of discarded window {}", _window.getKey().fxmlFile, _ex);
+            }
+        }
+    }
+
+    /**
+     * Windows can only be reused if all these properties are equal.
+     */
+    static final class PoolKey {
+        private final ClassLoader classLoader;
+        private final String fxmlFile;
+        private final Stage owner;
+        private final Modality modality;
+        private final Callback<Class<?>, Object> controllerFactory;
+        /** Window options applied when the window is created. */
+        private final List<Object> creationOptions;
+
+        PoolKey(Class<?> _rootClass, String _fxmlFile, Stage _owner, Modality _modality, Callback<Class<?>, Object> _controllerFactory,
+                WindowOptions _options) {
+            classLoader = _rootClass.getClassLoader();
+            fxmlFile = _fxmlFile;
+            owner = _owner;
+            modality = _modality;
+            controllerFactory = _controllerFactory;
+            creationOptions = Arrays.asList(_options.getWidth(), _options.getHeight(), _options.isResizeable(), _options.isMaximize(),
+                    _options.isAlwaysOnTop(), _options.isCloseOnFocusLost(),
+                    new ArrayList<>(_options.getIcons()), new ArrayList<>(_options.getCssStyleSheets()));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(classLoader, fxmlFile, System.identityHashCode(owner), modality, System.identityHashCode(controllerFactory), creationOptions);
+        }
+
+        @Override
+        public boolean equals(Object _obj) {
+            if (this == _obj) {
+                return true;
+            }
+            if (!(_obj instanceof PoolKey)) {
+                return false;
+            }
+            PoolKey other = (PoolKey) _obj;
+            return classLoader == other.classLoader
+                    && Objects.equals(fxmlFile, other.fxmlFile)
+                    && owner == other.owner
+                    && modality == other.modality
+                    && controllerFactory == other.controllerFactory
+                    && creationOptions.equals(other.creationOptions);
+        }
+    }
+
+    /**
+     * Stage, root node and controller of a window.
+     * The key is null if the window is not pooled.
+     * The stage is only null for windows created in tests.
+     */
+    static final class PooledWindow {
+        private final PoolKey key;
+        private final int maxPoolSize;
+        private final Stage stage;
+        private final Parent root;
+        private final Object controller;
+        private boolean initialized;
+
+        PooledWindow(PoolKey _key, int _maxPoolSize, Stage _stage, Parent _root, Object _controller) {
+            key = _key;
+            maxPoolSize = _maxPoolSize;
+            stage = _stage;
+            root = _root;
+            controller = _controller;
+        }
+
+        PoolKey getKey() {
+            return key;
+        }
+
+        boolean isPooled() {
+            return key != null;
+        }
+
+        int getMaxPoolSize() {
+            return maxPoolSize;
+        }
+
+        boolean isShowing() {
+            return stage != null && stage.isShowing();
+        }
+
+        Stage getStage() {
+            return stage;
+        }
+
+        Parent getRoot() {
+            return root;
+        }
+
+        Object getController() {
+            return controller;
+        }
+
+        /**
+         * Marks the window as initialized when it is shown.
+         *
+         * @return true if the window is shown for the first time
+         */
+        boolean markInitialized() {
+            if (initialized) {
+                return false;
+            }
+            initialized = true;
+            return true;
+        }
+    }
+}
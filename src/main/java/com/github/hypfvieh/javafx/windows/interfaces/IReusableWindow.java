@@ -0,0 +1,22 @@
+package com.github.hypfvieh.javafx.windows.interfaces;
+
+/**
+ * Interface which allows the window of the implementing controller to be reused after it was closed.
+ * <p>
+ * Only windows with controllers implementing this interface are kept in the window pool
+ * (see {@code WindowOptions#withPoolSize(int)}).
+ *
+ * @author hypfvieh
+ * @since v11.0.5 - 2026-10-17
+ */
+public interface IReusableWindow {
+    /**
+     * Called after the window was closed and before it is put back into the pool.
+     * <p>
+     * Reset all controls and fields, so the window can be shown again as if it was newly created.
+     * <p>
+     * {@link ICustomInitialize#customInitialize()} is only called when the window is shown the first time,
+     * so listeners and bindings added there are kept and must not be removed here.
+     */
+    void resetForReuse();
+}
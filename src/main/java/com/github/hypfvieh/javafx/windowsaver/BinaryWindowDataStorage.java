@@ -0,0 +1,243 @@
+package com.github.hypfvieh.javafx.windowsaver;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * {@link IWindowDataStorage} implementation using a compact binary format without any dependencies.
+ * <p>
+ * File layout (all values big endian, as written by {@link DataOutputStream}):
+ * <pre>
+ * int     magic ("JFWP")
+ * byte    major format version
+ * byte    minor format version
+ * int     number of windows
+ * per window:
+ *   UTF   window name
+ *   int   length of the following field block in bytes
+ *   per field:
+ *     byte  field tag
+ *     byte  value type (1 = double, 2 = boolean, 3 = UTF string)
+ *     int   length of the value in bytes
+ *     value
+ * </pre>
+ * Every value is prefixed with its length, so fields with unknown tags or value types are skipped
+ * and files written by newer versions containing additional fields can still be read.
+ * Newer minor versions may only add fields, so files of any minor version are accepted.
+ * Files with another major version are rejected.
+ *
+ * @author hypfvieh
+ * @since v11.0.5 - 2026-10-17
+ */
+public class BinaryWindowDataStorage implements IWindowDataStorage {
+    private static final int MAGIC = 0x4A465750; // JFWP
+    /** Major version, changed on incompatible changes of the layout. */
+    static final byte MAJOR_VERSION = 2;
+    /** Minor version, changed when new fields are added. */
+    static final byte MINOR_VERSION = 1;
+
+    private static final byte TYPE_DOUBLE = 1;
+    private static final byte TYPE_BOOLEAN = 2;
+    private static final byte TYPE_STRING = 3;
+
+    @Override
+    public Map<String, WindowPosInfo> read(File _file) throws IOException {
+        byte[] content = Files.readAllBytes(_file.toPath());
+        if (content.length == 0) {
+            return new HashMap<>();
+        }
+
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(content))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("File " + _file + " is not a window data file");
+            }
+            readVersion(in, _file);
+
+            int count = in.readInt();
+            Map<String, WindowPosInfo> result = new HashMap<>(Math.max(16, count * 2));
+            for (int i = 0; i < count; i++) {
+                String name = in.readUTF();
+                byte[] fields = new byte[in.readInt()];
+                in.readFully(fields);
+                result.put(name, readFields(fields));
+            }
+            return result;
+        } catch (EOFException _ex) {
+            throw new IOException("Window data file " + _file + " is truncated", _ex);
+        }
+    }
+
+    /**
+     * Reads and checks the format version.
+     *
+     * @param _in input
+     * @param _file file read, used for error message
+     * @throws IOException if major version is not supported
+     */
+    static void readVersion(DataInputStream _in, File _file) throws IOException {
+        byte major = _in.readByte();
+        byte minor = _in.readByte();
+        if (major != MAJOR_VERSION) {
+            throw new IOException("Unsupported window data format version " + major + "." + minor + " in " + _file);
+        }
+    }
+
+    static void writeVersion(DataOutputStream _out) throws IOException {
+        _out.writeByte(MAJOR_VERSION);
+        _out.writeByte(MINOR_VERSION);
+    }
+
+    static WindowPosInfo readFields(byte[] _fields) throws IOException {
+        WindowPosInfo info = new WindowPosInfo();
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(_fields));
+        while (in.available() > 0) {
+            Field field = Field.byTag(in.readByte());
+            byte type = in.readByte();
+            int length = in.readInt();
+            if (length < 0 || length > in.available()) {
+                throw new IOException("Invalid field length " + length);
+            }
+
+            // unknown fields and fields with unexpected type (written by a newer version) are skipped
+            if (field == null || field.type != type) {
+                in.skipBytes(length);
+                continue;
+            }
+
+            byte[] value = new byte[length];
+            in.readFully(value);
+            DataInputStream valueIn = new DataInputStream(new ByteArrayInputStream(value));
+            if (type == TYPE_DOUBLE) {
+                field.setter.accept(info, valueIn.readDouble());
+            } else if (type == TYPE_BOOLEAN) {
+                field.setter.accept(info, valueIn.readBoolean());
+            } else {
+                field.setter.accept(info, valueIn.readUTF());
+            }
+        }
+        return info;
+    }
+
+    @Override
+    public void write(File _file, Map<String, WindowPosInfo> _data) throws IOException {
+        try (OutputStream fileOut = Files.newOutputStream(_file.toPath());
+                DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fileOut))) {
+            out.writeInt(MAGIC);
+            writeVersion(out);
+            out.writeInt(_data.size());
+
+            ByteArrayOutputStream fieldBytes = new ByteArrayOutputStream(128);
+            DataOutputStream fieldOut = new DataOutputStream(fieldBytes);
+            for (Entry<String, WindowPosInfo> e : _data.entrySet()) {
+                fieldBytes.reset();
+                writeFields(fieldOut, e.getValue());
+                fieldOut.flush();
+
+                out.writeUTF(e.getKey());
+                out.writeInt(fieldBytes.size());
+                fieldBytes.writeTo(out);
+            }
+        }
+    }
+
+    static void writeFields(DataOutputStream _out, WindowPosInfo _info) throws IOException {
+        for (Field field : Field.values()) {
+            Object value = field.getter.apply(_info);
+            if (value == null) {
+                continue;
+            }
+            _out.writeByte(field.tag);
+            _out.writeByte(field.type);
+            if (field.type == TYPE_DOUBLE) {
+                _out.writeInt(Double.BYTES);
+                _out.writeDouble((Double) value);
+            } else if (field.type == TYPE_BOOLEAN) {
+                _out.writeInt(1);
+                _out.writeBoolean((Boolean) value);
+            } else {
+                byte[] utf = toUtf((String) value);
+                _out.writeInt(utf.length);
+                _out.write(utf);
+            }
+        }
+    }
+
+    /**
+     * Encodes the given string as written by {@link DataOutputStream#writeUTF(String)}.
+     */
+    private static byte[] toUtf(String _str) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(_str.length() + 2);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeUTF(_str);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Override
+    public String getFileExtension() {
+        return "bin";
+    }
+
+    /**
+     * Fields of {@link WindowPosInfo} stored in the file.
+     * Tags must never be changed or re-used, new fields have to use new tags.
+     */
+    enum Field {
+        WIDTH(1, TYPE_DOUBLE, WindowPosInfo::getWidth, (wi, v) -> wi.setWidth((Double) v)),
+        MIN_WIDTH(2, TYPE_DOUBLE, WindowPosInfo::getMinWidth, (wi, v) -> wi.setMinWidth((Double) v)),
+        MAX_WIDTH(3, TYPE_DOUBLE, WindowPosInfo::getMaxWidth, (wi, v) -> wi.setMaxWidth((Double) v)),
+        PREF_WIDTH(4, TYPE_DOUBLE, WindowPosInfo::getPrefWidth, (wi, v) -> wi.setPrefWidth((Double) v)),
+        HEIGHT(5, TYPE_DOUBLE, WindowPosInfo::getHeight, (wi, v) -> wi.setHeight((Double) v)),
+        MIN_HEIGHT(6, TYPE_DOUBLE, WindowPosInfo::getMinHeight, (wi, v) -> wi.setMinHeight((Double) v)),
+        MAX_HEIGHT(7, TYPE_DOUBLE, WindowPosInfo::getMaxHeight, (wi, v) -> wi.setMaxHeight((Double) v)),
+        PREF_HEIGHT(8, TYPE_DOUBLE, WindowPosInfo::getPrefHeight, (wi, v) -> wi.setPrefHeight((Double) v)),
+        X(9, TYPE_DOUBLE, WindowPosInfo::getX, (wi, v) -> wi.setX((Double) v)),
+        Y(10, TYPE_DOUBLE, WindowPosInfo::getY, (wi, v) -> wi.setY((Double) v)),
+        MAXIMIZED(11, TYPE_BOOLEAN, WindowPosInfo::isMaximized, (wi, v) -> wi.setMaximized((Boolean) v)),
+        TITLE(12, TYPE_STRING, WindowPosInfo::getTitle, (wi, v) -> wi.setTitle((String) v)),
+        // added in 2.1
+        OUTPUT_SCALE_X(13, TYPE_DOUBLE, WindowPosInfo::getOutputScaleX, (wi, v) -> wi.setOutputScaleX((Double) v)),
+        OUTPUT_SCALE_Y(14, TYPE_DOUBLE, WindowPosInfo::getOutputScaleY, (wi, v) -> wi.setOutputScaleY((Double) v));
+
+        private static final Field[] BY_TAG = new Field[128];
+
+        static {
+            for (Field f : values()) {
+                BY_TAG[f.tag] = f;
+            }
+        }
+
+        private final byte tag;
+        private final byte type;
+        private final Function<WindowPosInfo, Object> getter;
+        private final BiConsumer<WindowPosInfo, Object> setter;
+
+        Field(int _tag, byte _type, Function<WindowPosInfo, Object> _getter, BiConsumer<WindowPosInfo, Object> _setter) {
+            tag = (byte) _tag;
+            type = _type;
+            getter = _getter;
+            setter = _setter;
+        }
+
+        static Field byTag(byte _tag) {
+            return _tag >= 0 ? BY_TAG[_tag] : null;
+        }
+
+        byte getTag() {
+            return tag;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.github.hypfvieh.javafx.windowsaver;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@link IWindowDataStorage} which is able to write only the changed windows instead of the complete data.
+ * <p>
+ * {@link WindowPositionSaver} will use {@link #append(File, Map, Set)} instead of
+ * {@link #write(File, Map)} when saving changes with a provider implementing this interface.
+ *
+ * @author hypfvieh
+ * @since v11.0.5 - 2026-10-17
+ */
+public interface IIncrementalWindowDataStorage extends IWindowDataStorage {
+
+    /**
+     * Write the changes of the given keys to the given file.
+     * <p>
+     * The given Map always contains the complete current data, so implementations
+     * may decide to rewrite the whole file at any time (e.g. if the file does not exist or has to be compacted).
+     *
+     * @param _file file to write to
+     * @param _data complete data
+     * @param _changedKeys keys which have been added, changed or removed (removed keys are not contained in _data)
+     *
+     * @throws IOException if writing fails
+     */
+    void append(File _file, Map<String, WindowPosInfo> _data, Set<String> _changedKeys) throws IOException;
+}
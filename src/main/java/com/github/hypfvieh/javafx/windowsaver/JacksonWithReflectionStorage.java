@@ -2,24 +2,29 @@ package com.github.hypfvieh.javafx.windowsaver;
 
 import java.io.File;
 import java.io.IOException;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
-import java.util.Arrays;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Optional;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * {@link IWindowDataStorage} implementation which uses jackson by reflection to store window information.
+ * <p>
+ * The jackson classes are looked up only once. The configured ObjectReader/ObjectWriter are thread-safe
+ * and shared by all instances of this class.
  *
  * @author hypfvieh
  * @since v11.0.0 - 2020-09-11
  */
 public class JacksonWithReflectionStorage implements IWindowDataStorage {
 
+    private static volatile JacksonHandles handles;
+    private static volatile ReflectiveOperationException lookupError;
+
     private final Logger logger = LoggerFactory.getLogger(getClass());
 
     @Override
@@ -47,43 +52,28 @@ public class JacksonWithReflectionStorage implements IWindowDataStorage {
      */
     @SuppressWarnings("unchecked")
     private Map<String, WindowPosInfo> readWithJackson(File _file) throws IOException {
-        try {
-            Class<?> objectMapperClass = Class.forName("com.fasterxml.jackson.databind.ObjectMapper");
-            Object newInstance = objectMapperClass.getDeclaredConstructor().newInstance();
-
-            setupJacksonObjectMapper(objectMapperClass, newInstance);
-
-            Class<?> typeFactoryClass = Class.forName("com.fasterxml.jackson.databind.type.TypeFactory");
-            Object typeFactory = typeFactoryClass.getDeclaredMethod("defaultInstance").invoke(null);
-            Method constructMapMethod = typeFactoryClass.getDeclaredMethod("constructMapType", Class.class, Class.class, Class.class);
-            constructMapMethod.setAccessible(true);
-
-            Object reference = constructMapMethod.invoke(typeFactory, HashMap.class, String.class, WindowPosInfo.class);
-
-            Class<?> javaTypeClass = Class.forName("com.fasterxml.jackson.databind.JavaType");
-
-            Method readValueMethod = objectMapperClass.getDeclaredMethod("readValue", File.class, javaTypeClass);
-            readValueMethod.setAccessible(true);
-            Object result = readValueMethod.invoke(newInstance, _file, reference);
-
-            if (result == null) {
-                return null;
-
-            } else if (result instanceof Map) {
-                return Map.class.cast(result);
-            }
+        JacksonHandles jackson = getHandles();
+        if (jackson == null) {
+            return null;
+        }
 
-            throw new IllegalArgumentException("Retrieved result object is of unsupported type " + result.getClass().getName());
-        } catch (InvocationTargetException _ex) {
-            if (_ex.getCause() instanceof IOException) {
-                throw (IOException) _ex.getCause();
-            }
+        Object result;
+        try {
+            result = jackson.readValue.invoke(_file);
+        } catch (IOException | RuntimeException | Error _ex) {
+            throw _ex;
+        } catch (Throwable _ex) {
             logger.error("Error invoking jackson 'readValue' method", _ex);
-        } catch (ClassNotFoundException | InstantiationException | IllegalAccessException | IllegalArgumentException | NoSuchMethodException | SecurityException _ex) {
-            logger.error("Error using reflection to call jackson's 'writeValue' method", _ex);
+            return null;
+        }
+
+        if (result == null) {
+            return null;
+        } else if (result instanceof Map) {
+            return Map.class.cast(result);
         }
 
-        return null;
+        throw new IllegalArgumentException("Retrieved result object is of unsupported type " + result.getClass().getName());
     }
 
     /**
@@ -94,59 +84,101 @@ public class JacksonWithReflectionStorage implements IWindowDataStorage {
      * @throws IOException when jackson's writeValue throws
      */
     private void writeWithJackson(File _file, Map<String, WindowPosInfo> _data) throws IOException {
-        try {
-            Class<?> objectMapperClass = Class.forName("com.fasterxml.jackson.databind.ObjectMapper");
-            Object newInstance = objectMapperClass.getDeclaredConstructor().newInstance();
-
-            setupJacksonObjectMapper(objectMapperClass, newInstance);
-
-            Class<?> objectWriterClass = Class.forName("com.fasterxml.jackson.databind.ObjectWriter");
-
-            Object objectWriter = objectMapperClass.getDeclaredMethod("writerWithDefaultPrettyPrinter")
-                .invoke(newInstance);
+        JacksonHandles jackson = getHandles();
+        if (jackson == null) {
+            return;
+        }
 
-            Method declaredMethod = objectWriterClass.getDeclaredMethod("writeValue", File.class, Object.class);
-            declaredMethod.invoke(objectWriter, _file, _data);
-        } catch (InvocationTargetException _ex) {
-            if (_ex.getCause() instanceof IOException) {
-                throw (IOException) _ex.getCause();
-            }
+        try {
+            jackson.writeValue.invoke(_file, (Object) _data);
+        } catch (IOException | RuntimeException | Error _ex) {
+            throw _ex;
+        } catch (Throwable _ex) {
             logger.error("Error invoking jackson 'writeValue' method", _ex);
-        } catch (ClassNotFoundException | InstantiationException | IllegalAccessException | IllegalArgumentException | NoSuchMethodException | SecurityException _ex) {
-            logger.error("Error using reflection to call jackson's 'writeValue' method", _ex);
         }
     }
 
     /**
-     * Setup the properties of the jackson object mapper.
-     *
-     * @param _objectMapperClass object mapper class
-     * @param _objectMapperInstance object mapper instance
+     * Returns the cached jackson handles, creating them on first call.
      *
-     * @throws ClassNotFoundException any class could not be found
-     * @throws IllegalAccessException class is not accessable
-     * @throws InvocationTargetException operation failed
-     * @throws NoSuchMethodException method not found
+     * @return handles or null if jackson is not available
+     */
+    private JacksonHandles getHandles() {
+        JacksonHandles jackson = handles;
+        if (jackson != null) {
+            return jackson;
+        }
+        synchronized (JacksonWithReflectionStorage.class) {
+            if (handles == null && lookupError == null) {
+                try {
+                    handles = new JacksonHandles();
+                } catch (ReflectiveOperationException | RuntimeException _ex) {
+                    lookupError = _ex instanceof ReflectiveOperationException
+                        ? (ReflectiveOperationException) _ex : new ReflectiveOperationException(_ex);
+                }
+            }
+            if (handles == null) {
+                logger.error("Error using reflection to access jackson, window data will not be read or written", lookupError);
+            }
+            return handles;
+        }
+    }
+
+    /**
+     * Jackson ObjectReader/ObjectWriter for the window data map and method handles to use them.
      */
-    private void setupJacksonObjectMapper(Class<?> _objectMapperClass, Object _objectMapperInstance)
-            throws ClassNotFoundException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
-        Class<?> deSerFeatureClass = Class.forName("com.fasterxml.jackson.databind.DeserializationFeature");
+    private static final class JacksonHandles {
+        private final MethodHandle readValue;
+        private final MethodHandle writeValue;
 
-        Optional<?> findFirst = Arrays.stream(deSerFeatureClass.getEnumConstants())
-            .map(e -> (Enum<?>) e)
-            .filter(e -> !"FAIL_ON_UNKNOWN_PROPERTIES".equals(e.name()))
-            .findFirst();
+        JacksonHandles() throws ReflectiveOperationException {
+            Class<?> objectMapperClass = Class.forName("com.fasterxml.jackson.databind.ObjectMapper");
+            Class<?> objectReaderClass = Class.forName("com.fasterxml.jackson.databind.ObjectReader");
+            Class<?> objectWriterClass = Class.forName("com.fasterxml.jackson.databind.ObjectWriter");
+            Class<?> typeFactoryClass = Class.forName("com.fasterxml.jackson.databind.type.TypeFactory");
+            Class<?> javaTypeClass = Class.forName("com.fasterxml.jackson.databind.JavaType");
 
-        if (findFirst.isEmpty()) {
-            throw new IllegalArgumentException("Could not find ignore 'FAIL_ON_UNKNOWN_PROPERTIES' option for object mapper");
+            Object objectMapper = objectMapperClass.getConstructor().newInstance();
+            setupJacksonObjectMapper(objectMapperClass, objectMapper);
+
+            Object typeFactory = objectMapperClass.getMethod("getTypeFactory").invoke(objectMapper);
+            Object mapType = typeFactoryClass.getMethod("constructMapType", Class.class, Class.class, Class.class)
+                .invoke(typeFactory, HashMap.class, String.class, WindowPosInfo.class);
+
+            Object objectReader = objectMapperClass.getMethod("readerFor", javaTypeClass).invoke(objectMapper, mapType);
+            Object objectWriter = objectMapperClass.getMethod("writerWithDefaultPrettyPrinter").invoke(objectMapper);
+
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            readValue = lookup.findVirtual(objectReaderClass, "readValue", MethodType.methodType(Object.class, File.class))
+                .bindTo(objectReader);
+            writeValue = lookup.findVirtual(objectWriterClass, "writeValue", MethodType.methodType(void.class, File.class, Object.class))
+                .bindTo(objectWriter);
         }
 
-        // configure object mapper to ignore missing/unknown properties in objects
-        Method configureMethod = _objectMapperClass.getDeclaredMethod("configure", deSerFeatureClass, boolean.class);
-        configureMethod.setAccessible(true);
+        /**
+         * Setup the properties of the jackson object mapper.
+         *
+         * @param _objectMapperClass object mapper class
+         * @param _objectMapperInstance object mapper instance
+         *
+         * @throws ReflectiveOperationException if any class or method could not be found or called
+         */
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private static void setupJacksonObjectMapper(Class<?> _objectMapperClass, Object _objectMapperInstance)
+                throws ReflectiveOperationException {
+            Class<?> deSerFeatureClass = Class.forName("com.fasterxml.jackson.databind.DeserializationFeature");
+
+            Object failOnUnknown;
+            try {
+                failOnUnknown = Enum.valueOf((Class<? extends Enum>) deSerFeatureClass, "FAIL_ON_UNKNOWN_PROPERTIES");
+            } catch (IllegalArgumentException _ex) {
+                throw new NoSuchFieldException("Could not find ignore 'FAIL_ON_UNKNOWN_PROPERTIES' option for object mapper");
+            }
 
-        configureMethod
-            .invoke(_objectMapperInstance, findFirst.get(), false);
+            // configure object mapper to ignore missing/unknown properties in objects
+            _objectMapperClass.getMethod("configure", deSerFeatureClass, boolean.class)
+                .invoke(_objectMapperInstance, failOnUnknown, false);
+        }
     }
 
 }
@@ -0,0 +1,248 @@
+package com.github.hypfvieh.javafx.windowsaver;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link IWindowDataStorage} implementation which appends a record for every changed window
+ * instead of rewriting the whole file, so saving a window takes the same time no matter how many windows are stored.
+ * <p>
+ * File layout (all values big endian, as written by {@link DataOutputStream}):
+ * <pre>
+ * int     magic ("JFWJ")
+ * byte    major format version (same as {@link BinaryWindowDataStorage})
+ * byte    minor format version
+ * records:
+ *   byte  operation (1 = put, 2 = remove)
+ *   UTF   window name
+ *   put only:
+ *     int   length of the following field block in bytes
+ *     field block (see {@link BinaryWindowDataStorage})
+ * </pre>
+ * Records are replayed in order when the file is read. An incomplete record at the end of the file
+ * (e.g. caused by a crash while writing) is ignored.
+ * <p>
+ * As soon as the number of outdated records exceeds the compact threshold (or the number of windows, whichever is larger)
+ * the file is compacted by rewriting it with one record per window.
+ * When used by {@link WindowPositionSaver} this happens on its background writer thread.
+ *
+ * @author hypfvieh
+ * @since v11.0.5 - 2026-10-17
+ */
+public class JournalWindowDataStorage implements IIncrementalWindowDataStorage {
+    /** Default number of outdated records allowed before the file is compacted. */
+    public static final int DEFAULT_COMPACT_THRESHOLD = 256;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JournalWindowDataStorage.class);
+
+    private static final int MAGIC = 0x4A46574A; // JFWJ
+    private static final int HEADER_SIZE = 6;
+
+    private static final byte OP_PUT = 1;
+    private static final byte OP_REMOVE = 2;
+
+    private final int compactThreshold;
+
+    /** State of all files read or written by this instance, keyed by absolute path. */
+    private final Map<String, JournalState> states = new HashMap<>();
+
+    public JournalWindowDataStorage() {
+        this(DEFAULT_COMPACT_THRESHOLD);
+    }
+
+    /**
+     * Create a new instance.
+     *
+     * @param _compactThreshold number of outdated records allowed before the file is compacted
+     */
+    public JournalWindowDataStorage(int _compactThreshold) {
+        if (_compactThreshold < 1) {
+            throw new IllegalArgumentException("Compact threshold must be greater than 0");
+        }
+        compactThreshold = _compactThreshold;
+    }
+
+    @Override
+    public synchronized Map<String, WindowPosInfo> read(File _file) throws IOException {
+        states.remove(_file.getAbsolutePath());
+
+        byte[] content = Files.readAllBytes(_file.toPath());
+        if (content.length == 0) {
+            return new HashMap<>();
+        }
+
+        Map<String, WindowPosInfo> result = new HashMap<>();
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(content))) {
+            if (content.length < HEADER_SIZE || in.readInt() != MAGIC) {
+                throw new IOException("File " + _file + " is not a window data journal");
+            }
+            BinaryWindowDataStorage.readVersion(in, _file);
+
+            int records = 0;
+            long validLength = HEADER_SIZE;
+            while (in.available() > 0) {
+                if (!readRecord(in, result)) {
+                    LOGGER.warn("Ignoring {} bytes of incomplete or unknown data at the end of {}", content.length - validLength, _file);
+                    break;
+                }
+                records++;
+                validLength = content.length - in.available();
+            }
+            // if the file contains invalid data, the length will not match and the file is rewritten on next append
+            states.put(_file.getAbsolutePath(), new JournalState(records, validLength));
+        }
+        return result;
+    }
+
+    /**
+     * Reads and applies the next record.
+     *
+     * @return false if the record is incomplete or unknown
+     */
+    private static boolean readRecord(DataInputStream _in, Map<String, WindowPosInfo> _result) throws IOException {
+        try {
+            byte op = _in.readByte();
+            String name = _in.readUTF();
+            if (op == OP_REMOVE) {
+                _result.remove(name);
+                return true;
+            } else if (op != OP_PUT) {
+                return false;
+            }
+
+            int length = _in.readInt();
+            if (length < 0 || length > _in.available()) {
+                return false;
+            }
+            byte[] fields = new byte[length];
+            _in.readFully(fields);
+            _result.put(name, BinaryWindowDataStorage.readFields(fields));
+            return true;
+        } catch (EOFException _ex) {
+            return false;
+        }
+    }
+
+    @Override
+    public synchronized void write(File _file, Map<String, WindowPosInfo> _data) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(HEADER_SIZE + _data.size() * 128);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(MAGIC);
+        BinaryWindowDataStorage.writeVersion(out);
+        for (Entry<String, WindowPosInfo> e : _data.entrySet()) {
+            writeRecord(out, e.getKey(), e.getValue());
+        }
+        out.flush();
+
+        Files.write(_file.toPath(), bytes.toByteArray());
+        states.put(_file.getAbsolutePath(), new JournalState(_data.size(), bytes.size()));
+    }
+
+    @Override
+    public synchronized void append(File _file, Map<String, WindowPosInfo> _data, Set<String> _changedKeys) throws IOException {
+        if (_changedKeys.isEmpty()) {
+            return;
+        }
+
+        JournalState state = states.get(_file.getAbsolutePath());
+        // rewrite if the file was never read/written completely by this instance or was changed by someone else
+        if (state == null || !_file.exists() || _file.length() != state.length) {
+            compact(_file, _data);
+            return;
+        }
+
+        long outdated = state.records + _changedKeys.size() - _data.size();
+        if (outdated > Math.max(compactThreshold, _data.size())) {
+            LOGGER.debug("Compacting window data journal {} ({} outdated records)", _file, outdated);
+            compact(_file, _data);
+            return;
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(_changedKeys.size() * 128);
+        DataOutputStream out = new DataOutputStream(bytes);
+        for (String key : _changedKeys) {
+            writeRecord(out, key, _data.get(key));
+        }
+        out.flush();
+
+        // single write, so a crash leaves at most one incomplete block at the end of the file
+        try (OutputStream fileOut = Files.newOutputStream(_file.toPath(), StandardOpenOption.APPEND)) {
+            bytes.writeTo(fileOut);
+        }
+        state.records += _changedKeys.size();
+        state.length += bytes.size();
+    }
+
+    /**
+     * Replaces the given file with a file containing one record per window.
+     *
+     * @param _file file to replace
+     * @param _data complete data
+     *
+     * @throws IOException if writing fails
+     */
+    private void compact(File _file, Map<String, WindowPosInfo> _data) throws IOException {
+        File tmpFile = StorageFiles.getTempFile(_file);
+        try {
+            write(tmpFile, _data);
+            StorageFiles.replace(tmpFile, _file);
+        } finally {
+            JournalState state = states.remove(tmpFile.getAbsolutePath());
+            if (state != null && _file.length() == state.length) {
+                states.put(_file.getAbsolutePath(), state);
+            }
+            tmpFile.delete();
+        }
+    }
+
+    private static void writeRecord(DataOutputStream _out, String _name, WindowPosInfo _info) throws IOException {
+        if (_info == null) {
+            _out.writeByte(OP_REMOVE);
+            _out.writeUTF(_name);
+            return;
+        }
+
+        ByteArrayOutputStream fieldBytes = new ByteArrayOutputStream(128);
+        DataOutputStream fieldOut = new DataOutputStream(fieldBytes);
+        BinaryWindowDataStorage.writeFields(fieldOut, _info);
+        fieldOut.flush();
+
+        _out.writeByte(OP_PUT);
+        _out.writeUTF(_name);
+        _out.writeInt(fieldBytes.size());
+        fieldBytes.writeTo(_out);
+    }
+
+    @Override
+    public String getFileExtension() {
+        return "journal";
+    }
+
+    /**
+     * Number of records and expected length of a journal file.
+     */
+    private static final class JournalState {
+        private int records;
+        private long length;
+
+        JournalState(int _records, long _length) {
+            records = _records;
+            length = _length;
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.github.hypfvieh.javafx.windowsaver;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link IWindowDataStorage} which allows several processes to use the same data file.
+ * <p>
+ * Every write locks a lock file next to the data file (data file name + ".lock") using a {@link FileLock},
+ * reads the current data file, applies only the changed windows of this process and replaces the data file
+ * using the wrapped storage. Windows changed by other processes in the meantime are kept.
+ * <p>
+ * Reading does not require a lock, because the data file is always replaced atomically.
+ * This class only protects writes, it does not notice changes of other processes by itself.
+ * {@link WindowStateService} reads the data file again when it was changed, other users have to do the same.
+ * <p>
+ * Every write replaces the complete data file. Wrapping a {@link JournalWindowDataStorage} therefore
+ * gives up its cheap appending, each change rewrites all windows (and compacts the journal).
+ * When used by {@link WindowPositionSaver}, writing is done on its background writer thread,
+ * so waiting for the lock never blocks the JavaFX application thread.
+ * <p>
+ * The lock file is never deleted, deleting it would allow two processes to lock different files.
+ *
+ * @author hypfvieh
+ * @since v11.0.5 - 2026-10-17
+ */
+public class LockingWindowDataStorage implements IIncrementalWindowDataStorage {
+    /** Default time to wait for the lock of another process. */
+    public static final Duration DEFAULT_LOCK_TIMEOUT = Duration.ofSeconds(10);
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LockingWindowDataStorage.class);
+
+    private static final long LOCK_RETRY_MILLIS = 20;
+
+    /** {@link FileLock}s are held by the whole JVM, so threads of the same JVM have to be serialized separately. */
+    private static final Map<String, ReentrantLock> JVM_LOCKS = new ConcurrentHashMap<>();
+
+    private final IWindowDataStorage delegate;
+    private final Duration lockTimeout;
+
+    /**
+     * Create a new instance using the {@link #DEFAULT_LOCK_TIMEOUT}.
+     *
+     * @param _delegate storage used to read and write the data file
+     */
+    public LockingWindowDataStorage(IWindowDataStorage _delegate) {
+        this(_delegate, DEFAULT_LOCK_TIMEOUT);
+    }
+
+    /**
+     * Create a new instance.
+     *
+     * @param _delegate storage used to read and write the data file
+     * @param _lockTimeout maximum time to wait for the lock
+     */
+    public LockingWindowDataStorage(IWindowDataStorage _delegate, Duration _lockTimeout) {
+        delegate = Objects.requireNonNull(_delegate, "Delegate storage cannot be null");
+        if (_delegate instanceof LockingWindowDataStorage) {
+            throw new IllegalArgumentException("Delegate storage is already a locking storage");
+        }
+        lockTimeout = Objects.requireNonNull(_lockTimeout, "Lock timeout cannot be null");
+    }
+
+    public IWindowDataStorage getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public Map<String, WindowPosInfo> read(File _file) throws IOException {
+        return delegate.read(_file);
+    }
+
+    @Override
+    public void write(File _file, Map<String, WindowPosInfo> _data) throws IOException {
+        locked(_file, () -> replace(_file, _data));
+    }
+
+    @Override
+    public void append(File _file, Map<String, WindowPosInfo> _data, Set<String> _changedKeys) throws IOException {
+        if (_changedKeys.isEmpty()) {
+            return;
+        }
+
+        locked(_file, () -> {
+            Map<String, WindowPosInfo> merged = new HashMap<>();
+            if (_file.exists()) {
+                try {
+                    Map<String, WindowPosInfo> current = delegate.read(_file);
+                    if (current != null) {
+                        merged.putAll(current);
+                    }
+                } catch (IOException _ex) {
+                    LOGGER.warn("Could not read current window data from {}, file will be replaced", _file, _ex);
+                    merged.putAll(_data);
+                }
+            }
+
+            for (String key : _changedKeys) {
+                WindowPosInfo info = _data.get(key);
+                if (info == null) {
+                    merged.remove(key);
+                } else {
+                    merged.put(key, info);
+                }
+            }
+            replace(_file, merged);
+        });
+    }
+
+    private void replace(File _file, Map<String, WindowPosInfo> _data) throws IOException {
+        File tmpFile = StorageFiles.getTempFile(_file);
+        try {
+            delegate.write(tmpFile, _data);
+            StorageFiles.replace(tmpFile, _file);
+        } finally {
+            tmpFile.delete();
+        }
+    }
+
+    /**
+     * Executes the given action while holding the lock of the given data file.
+     *
+     * @param _file data file
+     * @param _action action to execute
+     *
+     * @throws IOException if lock could not be acquired in time or action failed
+     */
+    private void locked(File _file, LockedAction _action) throws IOException {
+        long deadline = System.nanoTime() + lockTimeout.toNanos();
+        File lockFile = getLockFile(_file);
+
+        ReentrantLock jvmLock = JVM_LOCKS.computeIfAbsent(lockFile.getAbsolutePath(), k -> new ReentrantLock());
+        try {
+            if (!jvmLock.tryLock(lockTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                throw new IOException("Timeout waiting for lock of " + _file);
+            }
+        } catch (InterruptedException _ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for lock of " + _file, _ex);
+        }
+
+        try (FileChannel channel = FileChannel.open(lockFile.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            FileLock lock;
+            while ((lock = channel.tryLock()) == null) {
+                if (System.nanoTime() - deadline > 0) {
+                    throw new IOException("Timeout waiting for lock of " + _file + " held by another process");
+                }
+                Thread.sleep(LOCK_RETRY_MILLIS);
+            }
+            try {
+                _action.run();
+            } finally {
+                lock.release();
+            }
+        } catch (InterruptedException _ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for lock of " + _file, _ex);
+        } finally {
+            jvmLock.unlock();
+        }
+    }
+
+    static File getLockFile(File _file) {
+        return new File(_file.getAbsoluteFile().getParentFile(), _file.getName() + ".lock");
+    }
+
+    @Override
+    public String getFileExtension() {
+        return delegate.getFileExtension();
+    }
+
+    @FunctionalInterface
+    private interface LockedAction {
+        void run() throws IOException;
+    }
+}
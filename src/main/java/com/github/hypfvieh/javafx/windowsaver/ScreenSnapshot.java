@@ -0,0 +1,170 @@
+package com.github.hypfvieh.javafx.windowsaver;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javafx.collections.ListChangeListener;
+import javafx.geometry.Rectangle2D;
+import javafx.stage.Screen;
+
+/**
+ * Immutable snapshot of the bounds and output scaling of all screens.
+ * <p>
+ * The current snapshot is cached and only recreated after the list of screens has changed
+ * (e.g. a monitor was added or removed or the scaling or resolution of a monitor was changed),
+ * so showing windows does not require to query all screens every time.
+ *
+ * @author hypfvieh
+ * @since v11.0.5 - 2026-10-17
+ */
+final class ScreenSnapshot {
+    private static final AtomicLong GENERATION = new AtomicLong();
+    private static volatile ScreenSnapshot current;
+    private static boolean listening;
+
+    private final List<ScreenInfo> screens;
+
+    private final double minX;
+    private final double minY;
+    private final double maxX;
+    private final double maxY;
+
+    ScreenSnapshot(List<ScreenInfo> _screens) {
+        screens = Collections.unmodifiableList(new ArrayList<>(_screens));
+
+        double x1 = Double.POSITIVE_INFINITY;
+        double y1 = Double.POSITIVE_INFINITY;
+        double x2 = Double.NEGATIVE_INFINITY;
+        double y2 = Double.NEGATIVE_INFINITY;
+        for (ScreenInfo screen : screens) {
+            Rectangle2D bounds = screen.getBounds();
+            x1 = Math.min(x1, bounds.getMinX());
+            y1 = Math.min(y1, bounds.getMinY());
+            x2 = Math.max(x2, bounds.getMaxX());
+            y2 = Math.max(y2, bounds.getMaxY());
+        }
+        minX = x1;
+        minY = y1;
+        maxX = x2;
+        maxY = y2;
+    }
+
+    /**
+     * Returns the snapshot of the current screen configuration.
+     * Has to be called on the JavaFX application thread.
+     *
+     * @return ScreenSnapshot
+     */
+    static ScreenSnapshot current() {
+        ScreenSnapshot snapshot = current;
+        if (snapshot != null) {
+            return snapshot;
+        }
+
+        startListening();
+        long generation = GENERATION.get();
+
+        List<ScreenInfo> infos = new ArrayList<>();
+        for (Screen screen : Screen.getScreens()) {
+            infos.add(new ScreenInfo(screen.getBounds(), screen.getVisualBounds(), screen.getOutputScaleX(), screen.getOutputScaleY()));
+        }
+        snapshot = new ScreenSnapshot(infos);
+
+        // do not cache the snapshot if screens were changed in the meantime
+        if (GENERATION.get() == generation) {
+            current = snapshot;
+        }
+        return snapshot;
+    }
+
+    private static synchronized void startListening() {
+        if (!listening) {
+            Screen.getScreens().addListener((ListChangeListener<Screen>) c -> invalidate());
+            listening = true;
+        }
+    }
+
+    /**
+     * Forgets the cached snapshot, so it is recreated on next access.
+     */
+    static void invalidate() {
+        GENERATION.incrementAndGet();
+        current = null;
+    }
+
+    List<ScreenInfo> getScreens() {
+        return screens;
+    }
+
+    double getMinX() {
+        return minX;
+    }
+
+    double getMinY() {
+        return minY;
+    }
+
+    double getMaxX() {
+        return maxX;
+    }
+
+    double getMaxY() {
+        return maxY;
+    }
+
+    /**
+     * Returns the screen containing the given point.
+     *
+     * @param _x x coordinate
+     * @param _y y coordinate
+     * @return ScreenInfo or null if point is not on any screen
+     */
+    ScreenInfo getScreenAt(double _x, double _y) {
+        for (ScreenInfo screen : screens) {
+            if (screen.getBounds().contains(_x, _y)) {
+                return screen;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Bounds and output scaling of a single screen.
+     */
+    static final class ScreenInfo {
+        private final Rectangle2D bounds;
+        private final Rectangle2D visualBounds;
+        private final double outputScaleX;
+        private final double outputScaleY;
+
+        ScreenInfo(Rectangle2D _bounds, Rectangle2D _visualBounds, double _outputScaleX, double _outputScaleY) {
+            bounds = _bounds;
+            visualBounds = _visualBounds;
+            outputScaleX = _outputScaleX;
+            outputScaleY = _outputScaleY;
+        }
+
+        Rectangle2D getBounds() {
+            return bounds;
+        }
+
+        Rectangle2D getVisualBounds() {
+            return visualBounds;
+        }
+
+        double getOutputScaleX() {
+            return outputScaleX;
+        }
+
+        double getOutputScaleY() {
+            return outputScaleY;
+        }
+
+        @Override
+        public String toString() {
+            return "ScreenInfo [bounds=" + bounds + ", outputScaleX=" + outputScaleX + ", outputScaleY=" + outputScaleY + "]";
+        }
+    }
+}
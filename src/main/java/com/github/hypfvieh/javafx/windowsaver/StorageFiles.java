@@ -0,0 +1,45 @@
+package com.github.hypfvieh.javafx.windowsaver;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * File helpers shared by the window data storage implementations.
+ *
+ * @author hypfvieh
+ * @since v11.0.5 - 2026-10-17
+ */
+final class StorageFiles {
+
+    private StorageFiles() {
+    }
+
+    /**
+     * Returns the temporary file used to write the given file before replacing it.
+     *
+     * @param _file data file
+     * @return File
+     */
+    static File getTempFile(File _file) {
+        return new File(_file.getAbsoluteFile().getParentFile(), _file.getName() + ".tmp");
+    }
+
+    /**
+     * Replaces the target file with the source file, atomically if supported by the file system.
+     *
+     * @param _source file to move
+     * @param _target file to replace
+     *
+     * @throws IOException if moving fails
+     */
+    static void replace(File _source, File _target) throws IOException {
+        try {
+            Files.move(_source.toPath(), _target.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException _ex) {
+            Files.move(_source.toPath(), _target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
@@ -25,6 +25,36 @@ public class WindowPosInfo {
     private boolean maximized;
     private String  title;
 
+    /** Output scale of the screen the window was shown on, 0 if unknown. */
+    private double  outputScaleX;
+    private double  outputScaleY;
+
+    public WindowPosInfo() {
+    }
+
+    /**
+     * Creates a copy of the given instance.
+     *
+     * @param _other instance to copy
+     * @since v11.0.5 - 2026-10-17
+     */
+    public WindowPosInfo(WindowPosInfo _other) {
+        width = _other.width;
+        minWidth = _other.minWidth;
+        maxWidth = _other.maxWidth;
+        prefWidth = _other.prefWidth;
+        height = _other.height;
+        minHeight = _other.minHeight;
+        maxHeight = _other.maxHeight;
+        prefHeight = _other.prefHeight;
+        x = _other.x;
+        y = _other.y;
+        maximized = _other.maximized;
+        title = _other.title;
+        outputScaleX = _other.outputScaleX;
+        outputScaleY = _other.outputScaleY;
+    }
+
     public double getPrefWidth() {
         return prefWidth;
     }
@@ -121,10 +151,36 @@ public class WindowPosInfo {
         maxHeight = _maxHeight;
     }
 
+    /**
+     * Horizontal output scale (DPI scaling) of the screen the window was shown on.
+     * @return scale, 0 if unknown
+     * @since v11.0.5 - 2026-10-17
+     */
+    public double getOutputScaleX() {
+        return outputScaleX;
+    }
+
+    public void setOutputScaleX(double _outputScaleX) {
+        outputScaleX = _outputScaleX;
+    }
+
+    /**
+     * Vertical output scale (DPI scaling) of the screen the window was shown on.
+     * @return scale, 0 if unknown
+     * @since v11.0.5 - 2026-10-17
+     */
+    public double getOutputScaleY() {
+        return outputScaleY;
+    }
+
+    public void setOutputScaleY(double _outputScaleY) {
+        outputScaleY = _outputScaleY;
+    }
+
     @Override
     public int hashCode() {
         return Objects.hash(height, maximized, minHeight, minWidth, prefHeight, prefWidth, title,
-                width, x, y);
+                width, x, y, outputScaleX, outputScaleY);
     }
 
     @Override
@@ -148,7 +204,9 @@ public class WindowPosInfo {
                 && Objects.equals(title, other.title)
                 && Double.doubleToLongBits(width) == Double.doubleToLongBits(other.width)
                 && Double.doubleToLongBits(x) == Double.doubleToLongBits(other.x)
-                && Double.doubleToLongBits(y) == Double.doubleToLongBits(other.y);
+                && Double.doubleToLongBits(y) == Double.doubleToLongBits(other.y)
+                && Double.doubleToLongBits(outputScaleX) == Double.doubleToLongBits(other.outputScaleX)
+                && Double.doubleToLongBits(outputScaleY) == Double.doubleToLongBits(other.outputScaleY);
     }
 
     @Override
@@ -1,51 +1,51 @@
 package com.github.hypfvieh.javafx.windowsaver;
 
 import java.io.File;
-import java.io.IOException;
-import java.util.HashMap;
+import java.time.Duration;
 import java.util.Map;
-import java.util.Objects;
-import java.util.function.BiConsumer;
-import java.util.function.Function;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
-import com.github.hypfvieh.javafx.windows.interfaces.ISaveWindowPreferences;
-import com.github.hypfvieh.javafx.windows.interfaces.WindowData;
-
-import javafx.event.EventHandler;
 import javafx.fxml.Initializable;
-import javafx.geometry.Rectangle2D;
 import javafx.scene.Parent;
-import javafx.stage.Screen;
 import javafx.stage.Stage;
-import javafx.stage.WindowEvent;
 
 /**
  * Helper to save/restore JavaFX window position and status.
  * <p>
+ * All methods delegate to a default {@link WindowStateService} instance (see {@link #getDefaultService()}).
+ * Applications running several independent modules in the same JVM should create their own
+ * {@link WindowStateService} instances instead.
+ * <p>
  * The window properties will be saved in JSON format using jackson if possible.
- * If jackson is not available, nothing will be saved.
+ * If jackson is not available, the properties are saved in a binary format ({@link BinaryWindowDataStorage}).
  * <p>
- * If you don't want to use jackson, provide a custom implementation of {@link IWindowDataStorage}.
+ * To use another format, provide a custom implementation of {@link IWindowDataStorage}.
  * <p>
  * The {@link WindowPositionSaver} is disabled by default, to use it call
  * {@link WindowPositionSaver#setEnabled(boolean)} and set it to true as soon as possible.
+ * <p>
+ * The stored data is read once and kept in memory. Changes are written in background after a short delay
+ * (see {@link #setWriteDelay(Duration)}), so closing several windows in a row only causes a single write.
+ * Pending changes are written when the JVM shuts down or when {@link #flush()} is called.
+ * <p>
+ * Storage providers implementing {@link IIncrementalWindowDataStorage} (e.g. {@link JournalWindowDataStorage})
+ * only receive the changed windows, all other providers have to rewrite the complete data on every write.
  *
  * @author hypfvieh
  * @since v11.0.0 - 2020-09-11
  */
 public class WindowPositionSaver {
 
-    private static final Logger LOGGER = LoggerFactory.getLogger(WindowPositionSaver.class);
-
-    private static IWindowDataStorage storageProvider = new JacksonWithReflectionStorage();
+    private static final WindowStateService DEFAULT = new WindowStateService();
 
-    private static File storageFolder = new File(System.getProperty("user.home"), ".javafx");
-    private static String storageFile = "windowPrefs";
-
-    private static boolean enabled = false;
+    /**
+     * Returns the service used by all static methods of this class.
+     *
+     * @return WindowStateService
+     * @since v11.0.5 - 2026-10-17
+     */
+    public static WindowStateService getDefaultService() {
+        return DEFAULT;
+    }
 
     /**
      * Set another {@link IWindowDataStorage} to store/load data.
@@ -54,9 +54,31 @@ public class WindowPositionSaver {
      * @param _provider provider to set, null is ignored
      */
     public static void setDataStorageProvider(IWindowDataStorage _provider ) {
-        if (_provider != null) {
-            storageProvider = _provider;
-        }
+        DEFAULT.setDataStorageProvider(_provider);
+    }
+
+    /**
+     * Enable or disable support for multiple processes using the same storage file
+     * (e.g. if the application can be started more than once).
+     * <p>
+     * If enabled, the current storage provider is wrapped in a {@link LockingWindowDataStorage},
+     * so changes of other processes are merged instead of being overwritten.
+     *
+     * @param _multiProcessSafe true to enable, false to disable
+     * @since v11.0.5 - 2026-10-17
+     */
+    public static void setMultiProcessSafe(boolean _multiProcessSafe) {
+        DEFAULT.setMultiProcessSafe(_multiProcessSafe);
+    }
+
+    /**
+     * Returns true if the storage file can safely be used by multiple processes.
+     *
+     * @return boolean
+     * @since v11.0.5 - 2026-10-17
+     */
+    public static boolean isMultiProcessSafe() {
+        return DEFAULT.isMultiProcessSafe();
     }
 
     /**
@@ -65,7 +87,7 @@ public class WindowPositionSaver {
      * @param _enabled true to enable, false to disable
      */
     public static void setEnabled(boolean _enabled) {
-        enabled = _enabled;
+        DEFAULT.setEnabled(_enabled);
     }
 
     /**
@@ -74,7 +96,7 @@ public class WindowPositionSaver {
      * @return boolean
      */
     public static boolean isEnabled() {
-        return enabled;
+        return DEFAULT.isEnabled();
     }
 
     /**
@@ -84,10 +106,7 @@ public class WindowPositionSaver {
      * @param _folder target folder, null is ignored
      */
     public static void setStorageFolder(File _folder) {
-        if (_folder == null) {
-            return;
-        }
-        storageFolder = _folder;
+        DEFAULT.setStorageFolder(_folder);
     }
 
     /**
@@ -99,73 +118,38 @@ public class WindowPositionSaver {
      * @param _folder target folder, null is ignored
      */
     public static void setStorageFile(String _storeFile) {
-        if (_storeFile == null || _storeFile.isBlank()) {
-            return;
-        }
-
-        storageFile = _storeFile;
+        DEFAULT.setStorageFile(_storeFile);
     }
 
     /**
-     * Read the data stored in the data file.
-     * If file is empty or does not exists, an empty map is returned.
-     * @return Map, maybe empty - never null
+     * Time to wait after a change before the data is written.
+     * Further changes during this time will restart the delay, so they are written together.
+     * Defaults to 500 ms.
+     *
+     * @param _delay delay, null or negative values are ignored
+     * @since v11.0.5 - 2026-10-17
      */
-    public static Map<String, WindowPosInfo> getStoredData() {
-        if (!enabled) {
-            return null;
-        }
-
-    	File prefFile = getDataStoreFile();
-    	if (!prefFile.exists()) {
-    		return new HashMap<>();
-    	}
-
-    	try {
-
-			Map<String, WindowPosInfo> readValue = storageProvider.read(prefFile);
-			return readValue;
-		} catch (IOException _ex) {
-			LOGGER.error("Could not read stored window position data from {}.", prefFile, _ex);
-			return new HashMap<>();
-		}
-
+    public static void setWriteDelay(Duration _delay) {
+        DEFAULT.setWriteDelay(_delay);
     }
 
     /**
-     * Write the given data map back to the data file overwriting existing content.
-     * @param _data date to save
+     * Returns a copy of the stored data.
+     * If file is empty or does not exists, an empty map is returned.
+     * @return Map, maybe empty - never null
      */
-    private static void updateStoredData(Map<String, WindowPosInfo> _data) {
-        if (!enabled) {
-            return;
-        }
-
-        if (_data == null) {
-            return;
-        }
-        File prefFile = getDataStoreFile();
-
-        try {
-            storageProvider.write(prefFile, _data);
-        } catch (IOException _ex) {
-            LOGGER.error("Could not save window position to file {}." , prefFile, _ex);
-        }
+    public static Map<String, WindowPosInfo> getStoredData() {
+        return DEFAULT.getStoredData();
     }
 
     /**
-     * Returns the file object where the saved window data could be found.
-     * @return File
+     * Writes pending changes to the data file immediately.
+     * Called automatically in background after changes and on JVM shutdown.
+     *
+     * @since v11.0.5 - 2026-10-17
      */
-    private static File getDataStoreFile() {
-        if (!storageFolder.exists()) {
-            storageFolder.mkdirs();
-        }
-
-        String fileName = storageFile + "." + storageProvider.getFileExtension();
-
-        File prefFile = new File(storageFolder, fileName);
-        return prefFile;
+    public static void flush() {
+        DEFAULT.flush();
     }
 
     /**
@@ -174,47 +158,7 @@ public class WindowPositionSaver {
      * @param _stage stage to save
      */
     public static void saveWindowPosition(Initializable _controller, Stage _stage) {
-        if (!enabled) {
-            return;
-        }
-
-        Objects.requireNonNull(_controller, "Window class cannot be null");
-        Objects.requireNonNull(_stage, "Stage cannot be null");
-
-        WindowData windowPrefsSaveLoad = _controller instanceof ISaveWindowPreferences ? ((ISaveWindowPreferences) _controller).saveWindowPreferences() : WindowData.NONE;
-        windowPrefsSaveLoad = windowPrefsSaveLoad == null ? WindowData.NONE : windowPrefsSaveLoad;
-
-        Map<String, WindowPosInfo> storedData = getStoredData();
-
-        if (windowPrefsSaveLoad == WindowData.NONE) {
-            clearSavedWindowPreferences(_controller.getClass());
-
-        } else {
-
-            WindowPosInfo posInfo = storedData.getOrDefault(_controller.getClass().getName(), new WindowPosInfo());
-
-            if (windowPrefsSaveLoad == WindowData.POSITION || windowPrefsSaveLoad == WindowData.BOTH) {
-                posInfo.setX(_stage.getX());
-                posInfo.setY(_stage.getY());
-            }
-
-            if (windowPrefsSaveLoad == WindowData.SIZE || windowPrefsSaveLoad == WindowData.BOTH) {
-                posInfo.setHeight(_stage.getHeight());
-                posInfo.setWidth(_stage.getWidth());
-                posInfo.setMaximized(_stage.isMaximized());
-
-                if (_stage.getScene() != null && _stage.getScene().getRoot() != null) {
-                    posInfo.setMinWidth(_stage.getScene().getRoot().minWidth(-1));
-                    posInfo.setMinHeight(_stage.getScene().getRoot().minHeight(-1));
-                }
-            }
-            posInfo.setTitle(_stage.getTitle());
-            storedData.put(_controller.getClass().getName(), posInfo);
-
-            LOGGER.debug("Saving window properties: window={}, width={}, heigth={}, x={}, y={}, maximized={}", _controller.getClass().getName(), _stage.getWidth(), _stage.getHeight(), _stage.getX(), _stage.getY(), _stage.isMaximized());
-        }
-
-        updateStoredData(storedData);
+        DEFAULT.saveWindowPosition(_controller, _stage);
     }
 
     /**
@@ -223,14 +167,7 @@ public class WindowPositionSaver {
      * @param _windowClass window controller class
      */
     public static void clearSavedWindowPreferences(Class<? extends Initializable> _windowClass) {
-        if (!enabled) {
-            return;
-        }
-
-        if (_windowClass == null) {
-            return;
-        }
-        clearSavedWindowPreferences(_windowClass.getName());
+        DEFAULT.clearSavedWindowPreferences(_windowClass);
     }
 
     /**
@@ -238,39 +175,14 @@ public class WindowPositionSaver {
      * @param _windowClassName name of the window class to clear preferences for
      */
     public static void clearSavedWindowPreferences(String _windowClassName) {
-        if (!enabled) {
-            return;
-        }
-
-        if (_windowClassName == null || _windowClassName.isBlank()) {
-            return;
-        }
-
-        Map<String, WindowPosInfo> storedData = getStoredData();
-        if (storedData.containsKey(_windowClassName)) {
-            storedData.remove(_windowClassName);
-            LOGGER.debug("Removing stored window positions for window: {}", _windowClassName);
-            updateStoredData(storedData);
-        }
+        DEFAULT.clearSavedWindowPreferences(_windowClassName);
     }
+
     /**
      * Clear all saved window preferences.
      */
     public static void clearAllSavedWindowPreferences() {
-        if (!enabled) {
-            return;
-        }
-
-        File store = getDataStoreFile();
-        if (store == null || !store.exists()) {
-            return;
-        }
-
-        if (store.delete()) {
-            LOGGER.info("Removed all stored window positions ({} deleted)", store);
-        } else {
-            LOGGER.error("Could not remove window position data store file {}", store);
-        }
+        DEFAULT.clearAllSavedWindowPreferences();
     }
 
     /**
@@ -280,27 +192,9 @@ public class WindowPositionSaver {
      * @param _stage stage to resize
      */
     public static void restoreDefaultWindowSize(Class<?> _controllerClass, Stage _stage) {
-        if (!enabled) {
-            return;
-        }
-        Objects.requireNonNull(_controllerClass, "Controller class cannot be null");
-        Objects.requireNonNull(_stage, "Stage cannot be null");
-
-        WindowPosInfo storedData = getStoredData().get(_controllerClass.getName());
-        if (storedData == null) {
-            return; // no saved defaults
-        }
-
-        _stage.setMaxHeight(storedData.getMaxHeight());
-        _stage.setMinHeight(storedData.getMinHeight());
-
-        _stage.setMinWidth(storedData.getMinWidth());
-        _stage.setMaxWidth(storedData.getMaxWidth());
-        
-        _stage.sizeToScene();
-
+        DEFAULT.restoreDefaultWindowSize(_controllerClass, _stage);
     }
-    
+
     /**
      * Restores the store default sizes of the given window (if any).
      * 
@@ -308,10 +202,9 @@ public class WindowPositionSaver {
      * @param _stage stage to resize
      */
     public static void restoreDefaultWindowSize(Initializable _controller, Stage _stage) {
-        Objects.requireNonNull(_controller, "Controller cannot be null");
-        restoreDefaultWindowSize(_controller.getClass(), _stage);
+        DEFAULT.restoreDefaultWindowSize(_controller, _stage);
     }
-    
+
     /**
      * Restore given stage status/size to values found with the given name.
      * @param _controller controller/window to restore
@@ -319,237 +212,6 @@ public class WindowPositionSaver {
      * @param _root parent
      */
     public static void restoreWindowPosition(Initializable _controller, Stage _stage, Parent _root) {
-        if (!enabled) {
-            return;
-        }
-
-        Objects.requireNonNull(_controller, "WindowController cannot be null");
-        Objects.requireNonNull(_stage, "Stage cannot be null");
-
-        // force layout before applying window saver position/size because stage is uninitialized before
-        _stage.getScene().getRoot().layout();
-        _stage.sizeToScene();
-
-        WindowData windowPrefsSaveLoad = _controller instanceof ISaveWindowPreferences ? ((ISaveWindowPreferences) _controller).saveWindowPreferences() : WindowData.NONE;
-        windowPrefsSaveLoad = windowPrefsSaveLoad == null ? WindowData.NONE : windowPrefsSaveLoad;
-
-        if (windowPrefsSaveLoad == WindowData.NONE) {
-            return;
-        }
-
-        Map<String, WindowPosInfo> storedData = getStoredData();
-
-        if (!storedData.containsKey(_controller.getClass().getName())) {
-            return; // no saved data
-        }
-
-        WindowPosInfo posInfo = storedData.get(_controller.getClass().getName());
-
-        // if default has changed, remove saved settings and do NOT load changed window dimensions/positions
-        if (maybeUpdateDefaults(posInfo, _controller, _stage, _root)) {
-            LOGGER.info("Will not restore window position/dimension due to changed default sizes (removing old invalid)");
-            clearSavedWindowPreferences(_controller.getClass());
-            return;
-        }
-
-        double[] dimensions = computeAllScreenBounds();
-
-        // X position is off screen
-        if (posInfo.getX() > dimensions[2] -10 || posInfo.getX() < dimensions[0]) {
-            return;
-        }
-
-        // Y position is off screen
-        if (posInfo.getY() > dimensions[3] || posInfo.getY() < dimensions[1]) {
-            return;
-        }
-
-        // width is smaller/bigger than screen resolution
-        if (posInfo.getWidth() < dimensions[0] || posInfo.getWidth() > dimensions[2]) {
-            return;
-        }
-
-        // height is smaller/bigger than screen resolution
-        if (posInfo.getHeight() < dimensions[1] || posInfo.getHeight() > dimensions[3]) {
-            return;
-        }
-
-        LOGGER.debug("Restoring window properties: window={}, saveLoadOption={}, {}", _controller.getClass().getName(), windowPrefsSaveLoad, posInfo);
-
-        EventHandler<WindowEvent> onShown = _stage.getOnShown();
-        EventHandler<WindowEvent> onCloseRequest = _stage.getOnCloseRequest();
-        
-        _stage.setOnShown(ev -> {});
-        _stage.setOnCloseRequest(ev -> {});
-        
-        _stage.hide(); // hide window so it is not "flickering"
-        
-        if (windowPrefsSaveLoad == WindowData.BOTH || windowPrefsSaveLoad == WindowData.SIZE) {
-            _stage.setHeight(posInfo.getHeight());
-            _stage.setWidth(posInfo.getWidth());
-            _stage.setMaximized(posInfo.isMaximized());
-        }
-
-        _stage.setX(posInfo.getX());
-        _stage.setY(posInfo.getY());
-        
-        _stage.show(); // show again
-        _stage.setOnShown(onShown);
-        _stage.setOnCloseRequest(onCloseRequest);
-
-    }
-
-    /**
-     * Calculates the maximum screen size for multi monitor screens.
-     *
-     * @return double array, 0: minX, 1: minY, 2: maxX, 3: maxY
-     */
-    private static double[] computeAllScreenBounds() {
-        double minX = Double.POSITIVE_INFINITY;
-        double minY = Double.POSITIVE_INFINITY;
-        double maxX = Double.NEGATIVE_INFINITY;
-        double maxY = Double.NEGATIVE_INFINITY;
-
-        for (Screen screen : Screen.getScreens()) {
-            Rectangle2D screenBounds = screen.getBounds();
-            if (screenBounds.getMinX() < minX) {
-                minX = screenBounds.getMinX();
-            }
-            if (screenBounds.getMinY() < minY) {
-                minY = screenBounds.getMinY() ;
-            }
-            if (screenBounds.getMaxX() > maxX) {
-                maxX = screenBounds.getMaxX();
-            }
-            if (screenBounds.getMaxY() > maxY) {
-                maxY = screenBounds.getMaxY() ;
-            }
-        }
-        return new double[] {minX, minY, maxX, maxY};
-    }
-
-    /**
-     * Updates the saved default values if values have been changed.
-     *
-     * @param _posInfo window position info
-     * @param _windowClass window controller class
-     * @param _stage stage to check
-     * @return true if changes were applied, false otherwise
-     */
-    private static boolean maybeUpdateDefaults(WindowPosInfo _posInfo, Initializable _windowClass, Stage _stage, Parent _root) {
-        boolean hasChanged = false;
-
-        for (DefaultWindowPrefs dwp : DefaultWindowPrefs.values()) {
-            double oldDefaultMin = dwp.getMinGetter().apply(_posInfo);
-            double oldDefaultMax = dwp.getMaxGetter().apply(_posInfo);
-
-            Double min = dwp.getStageMinGetter().apply(_stage);
-            // minimum value was changed and needs to be bigger than the old value
-            if (min > oldDefaultMin) {
-                LOGGER.debug("{} default window min{} changed from {} to {}", _windowClass.getClass().getSimpleName(), dwp.getLogStr(), oldDefaultMin == -1 ? "NOT SET" : oldDefaultMin, min);
-                dwp.getMinSetter().accept(_posInfo, min);
-                hasChanged = true;
-            }
-
-            Double max = dwp.getStageMaxGetter().apply(_stage);
-            // max value was changed and has to be smaller than the old value
-            if (max < oldDefaultMax) {
-                LOGGER.debug("{} default window min{} changed from {} to {}", _windowClass.getClass().getSimpleName(), dwp.getLogStr(), oldDefaultMax == -1 ? "NOT SET" : oldDefaultMax, max);
-                dwp.getMaxSetter().accept(_posInfo, min);
-                hasChanged = true;
-            }
-
-        }
-
-        return hasChanged;
-    }
-
-    /**
-     * Helper enum to read/write default window properties like min/max/pref values.
-     *
-     * @author hypfvieh
-     * @since v11.0.0 - 2020-09-11
-     */
-    enum DefaultWindowPrefs {
-        HEIGHT("Height",
-                wi -> wi.getMinHeight(), // min window height getter
-                wi -> wi.getMaxHeight(), // max window height getter
-                (wi, d) -> wi.setMinHeight(d), // min window height setter
-                (wi, d) -> wi.setMaxHeight(d), // max window height setter
-                st -> st.getMinHeight(), // get min height from stage
-                st -> st.getMaxHeight() // get max height from stage
-        ),
-        WIDTH("Width",
-                wi -> wi.getMinWidth(), // min window width getter
-                wi -> wi.getMaxWidth(), // max window width getter
-                (wi, d) -> wi.setMinWidth(d), // min window width Setter
-                (wi, d) -> wi.setMaxWidth(d), // max window width Setter
-                st -> st.getMinWidth(), // get min width from stage
-                st -> st.getMaxWidth() // get max width from stage
-        );
-
-        private final String logStr;
-
-        /** stored minimum width/height getter */
-        private final Function<WindowPosInfo, Double> minGetter;
-        /** stored minimum width/height setter */
-        private final BiConsumer<WindowPosInfo, Double> minSetter;
-        /** stored maximum width/height setter */
-        private final BiConsumer<WindowPosInfo, Double> maxSetter;
-        /** stored maximum width/height getter */
-        private final Function<WindowPosInfo, Double> maxGetter;
-
-        /** stage minimum width/height getter */
-        private final Function<Stage, Double> stageMinGetter;
-        /** stage maximum width/height getter */
-        private final Function<Stage, Double> stageMaxGetter;
-
-
-        DefaultWindowPrefs(String _logStr,
-                Function<WindowPosInfo, Double> _minGetter,
-                Function<WindowPosInfo, Double> _maxGetter,
-                BiConsumer<WindowPosInfo, Double> _minSetter,
-                BiConsumer<WindowPosInfo, Double> _maxSetter,
-                Function<Stage, Double> _stageMinGetter,
-                Function<Stage, Double> _stageMaxGetter
-                ) {
-
-            minGetter = _minGetter;
-            logStr = _logStr;
-            maxGetter = _maxGetter;
-            minSetter = _minSetter;
-            maxSetter = _maxSetter;
-            stageMinGetter = _stageMinGetter;
-            stageMaxGetter = _stageMaxGetter;
-        }
-
-        public String getLogStr() {
-            return logStr;
-        }
-
-        public Function<WindowPosInfo, Double> getMinGetter() {
-            return minGetter;
-        }
-
-        public BiConsumer<WindowPosInfo, Double> getMinSetter() {
-            return minSetter;
-        }
-
-        public Function<Stage, Double> getStageMinGetter() {
-            return stageMinGetter;
-        }
-
-        public Function<Stage, Double> getStageMaxGetter() {
-            return stageMaxGetter;
-        }
-
-        public BiConsumer<WindowPosInfo, Double> getMaxSetter() {
-            return maxSetter;
-        }
-
-        public Function<WindowPosInfo, Double> getMaxGetter() {
-            return maxGetter;
-        }
-
+        DEFAULT.restoreWindowPosition(_controller, _stage, _root);
     }
 }
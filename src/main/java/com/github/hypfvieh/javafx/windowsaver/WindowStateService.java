@@ -0,0 +1,961 @@
+package com.github.hypfvieh.javafx.windowsaver;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.hypfvieh.javafx.windows.interfaces.ISaveWindowPreferences;
+import com.github.hypfvieh.javafx.windows.interfaces.WindowData;
+
+import javafx.event.EventHandler;
+import javafx.fxml.Initializable;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.Parent;
+import javafx.stage.Stage;
+import javafx.stage.WindowEvent;
+
+/**
+ * Saves and restores JavaFX window position and status.
+ * <p>
+ * Every instance uses its own storage file, in-memory data and background writer thread,
+ * so several applications or modules running in the same JVM can keep their window data separated.
+ * {@link WindowPositionSaver} provides static access to a default instance.
+ * <p>
+ * The window properties will be saved in JSON format using jackson if possible.
+ * If jackson is not available, the properties are saved in a binary format ({@link BinaryWindowDataStorage}).
+ * <p>
+ * To use another format, provide a custom implementation of {@link IWindowDataStorage}.
+ * <p>
+ * Instances are disabled by default, to use them call {@link #setEnabled(boolean)} and set it to true as soon as possible.
+ * <p>
+ * The stored data is read once and kept in memory (unless {@link #setMultiProcessSafe(boolean) multi process support}
+ * is enabled, then it is read again after other processes changed it). Changes are written in background after a short delay
+ * (see {@link #setWriteDelay(Duration)}), so closing several windows in a row only causes a single write.
+ * Pending changes are written when the JVM shuts down or when {@link #flush()} is called.
+ * <p>
+ * Storage providers implementing {@link IIncrementalWindowDataStorage} (e.g. {@link JournalWindowDataStorage})
+ * only receive the changed windows, all other providers have to rewrite the complete data on every write.
+ *
+ * @author hypfvieh
+ * @since v11.0.5 - 2026-10-17
+ */
+public class WindowStateService implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(WindowStateService.class);
+
+    private volatile IWindowDataStorage storageProvider = createDefaultStorageProvider();
+
+    private volatile File storageFolder;
+    private volatile String storageFile;
+    /** Data file, computed on first use. */
+    private volatile File dataStoreFile;
+
+    private volatile boolean enabled = false;
+
+    private volatile Duration writeDelay = Duration.ofMillis(500);
+
+    /** Guards the in-memory data and the pending write task. */
+    private final Object dataLock = new Object();
+    /** Ensures that snapshots are written in the order they were taken. */
+    private final Object writeLock = new Object();
+
+    private Map<String, WindowPosInfo> cachedData;
+    private File cachedDataFile;
+    /** Attributes of the data file when it was read, used to detect changes of other processes. */
+    private List<Object> cachedDataStamp;
+    /** True while a snapshot is written, the data file must not be reloaded during that time. */
+    private boolean writing;
+    private boolean dirty;
+    /** Keys changed since the last write, used for {@link IIncrementalWindowDataStorage}. */
+    private final Set<String> changedKeys = new HashSet<>();
+    private ScheduledFuture<?> pendingWrite;
+    private ScheduledExecutorService writer;
+    private Thread shutdownHook;
+
+    /**
+     * Create a new instance storing the data in "user.home/.javafx/windowPrefs".
+     */
+    public WindowStateService() {
+        this(new File(System.getProperty("user.home"), ".javafx"), "windowPrefs");
+    }
+
+    /**
+     * Create a new instance.
+     *
+     * @param _storageFolder folder to store the data file in
+     * @param _storageFile name of the data file without extension
+     */
+    public WindowStateService(File _storageFolder, String _storageFile) {
+        storageFolder = Objects.requireNonNull(_storageFolder, "Storage folder cannot be null");
+        if (_storageFile == null || _storageFile.isBlank()) {
+            throw new IllegalArgumentException("Storage file cannot be null or blank");
+        }
+        storageFile = _storageFile;
+    }
+
+    /**
+     * Uses jackson if available, so existing JSON files can still be read, the binary format otherwise.
+     *
+     * @return IWindowDataStorage
+     */
+    private static IWindowDataStorage createDefaultStorageProvider() {
+        try {
+            Class.forName("com.fasterxml.jackson.databind.ObjectMapper", false, WindowStateService.class.getClassLoader());
+            return new JacksonWithReflectionStorage();
+        } catch (ClassNotFoundException | LinkageError _ex) {
+            LOGGER.debug("Jackson not found, using binary window data storage");
+            return new BinaryWindowDataStorage();
+        }
+    }
+
+    /**
+     * Set another {@link IWindowDataStorage} to store/load data.
+     * This has to be done before calling {@link #getStoredData()}.
+     *
+     * @param _provider provider to set, null is ignored
+     */
+    public void setDataStorageProvider(IWindowDataStorage _provider ) {
+        if (_provider != null) {
+            flush();
+            storageProvider = _provider;
+            invalidateCache();
+        }
+    }
+
+    /**
+     * Enable or disable support for multiple processes using the same storage file
+     * (e.g. if the application can be started more than once).
+     * <p>
+     * If enabled, the current storage provider is wrapped in a {@link LockingWindowDataStorage},
+     * so changes of other processes are merged instead of being overwritten.
+     * The data file is also read again whenever it was changed by another process,
+     * so restored windows use the latest saved positions. Unsaved changes of this process are kept.
+     * <p>
+     * Every write rewrites the complete data file, even if the current provider
+     * is a {@link JournalWindowDataStorage}.
+     *
+     * @param _multiProcessSafe true to enable, false to disable
+     */
+    public void setMultiProcessSafe(boolean _multiProcessSafe) {
+        IWindowDataStorage current = storageProvider;
+        if (_multiProcessSafe && !(current instanceof LockingWindowDataStorage)) {
+            setDataStorageProvider(new LockingWindowDataStorage(current));
+        } else if (!_multiProcessSafe && current instanceof LockingWindowDataStorage) {
+            setDataStorageProvider(((LockingWindowDataStorage) current).getDelegate());
+        }
+    }
+
+    /**
+     * Returns true if the storage file can safely be used by multiple processes.
+     *
+     * @return boolean
+     */
+    public boolean isMultiProcessSafe() {
+        return storageProvider instanceof LockingWindowDataStorage;
+    }
+
+    /**
+     * Enable or disable this service.
+     *
+     * @param _enabled true to enable, false to disable
+     */
+    public void setEnabled(boolean _enabled) {
+        enabled = _enabled;
+    }
+
+    /**
+     * Get current status.
+     *
+     * @return boolean
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Folder where to store window preferences.
+     * Defaults to "user.home/.javafx".
+     *
+     * @param _folder target folder, null is ignored
+     */
+    public void setStorageFolder(File _folder) {
+        if (_folder == null) {
+            return;
+        }
+        flush();
+        storageFolder = _folder;
+        invalidateCache();
+    }
+
+    /**
+     * Name of the file to store window preferences in.
+     * File extension will be appended by the chosen storage backend.
+     *
+     * Defaults to "windowPrefs".
+     *
+     * @param _storeFile file name without extension, null or blank is ignored
+     */
+    public void setStorageFile(String _storeFile) {
+        if (_storeFile == null || _storeFile.isBlank()) {
+            return;
+        }
+
+        flush();
+        storageFile = _storeFile;
+        invalidateCache();
+    }
+
+    /**
+     * Time to wait after a change before the data is written.
+     * Further changes during this time will restart the delay, so they are written together.
+     * Defaults to 500 ms.
+     *
+     * @param _delay delay, null or negative values are ignored
+     */
+    public void setWriteDelay(Duration _delay) {
+        if (_delay == null || _delay.isNegative()) {
+            return;
+        }
+        writeDelay = _delay;
+    }
+
+    /**
+     * Returns a copy of the stored data.
+     * If file is empty or does not exists, an empty map is returned.
+     * @return Map, maybe empty - never null
+     */
+    public Map<String, WindowPosInfo> getStoredData() {
+        if (!enabled) {
+            return null;
+        }
+        synchronized (dataLock) {
+            return new HashMap<>(getCachedData());
+        }
+    }
+
+    /**
+     * Returns the in-memory data, reading the data file on first access.
+     * Must be called while holding {@link #dataLock}.
+     * The returned map must not be modified without calling {@link #scheduleWrite(String)} afterwards.
+     * Values are never modified after they have been put into the map, so they can be written concurrently.
+     *
+     * @return Map, never null
+     */
+    private Map<String, WindowPosInfo> getCachedData() {
+        if (cachedData != null) {
+            if (isMultiProcessSafe() && !writing) {
+                reloadIfChanged();
+            }
+            return cachedData;
+        }
+
+        File prefFile = getDataStoreFile();
+        cachedDataStamp = getFileStamp(prefFile);
+        Map<String, WindowPosInfo> data = read(prefFile);
+        cachedData = data == null ? new HashMap<>() : new HashMap<>(data);
+        cachedDataFile = prefFile;
+        return cachedData;
+    }
+
+    /**
+     * Reads the data file again if it was changed since it was read last time (e.g. by another process).
+     * Changes of this process which have not been written yet are applied to the data read.
+     * Must be called while holding {@link #dataLock}.
+     */
+    private void reloadIfChanged() {
+        List<Object> stamp = getFileStamp(cachedDataFile);
+        if (Objects.equals(stamp, cachedDataStamp)) {
+            return;
+        }
+
+        Map<String, WindowPosInfo> data = read(cachedDataFile);
+        if (data == null && stamp != null) {
+            return; // keep current data if file could not be read, try again on next access
+        }
+        Map<String, WindowPosInfo> reloaded = data == null ? new HashMap<>() : new HashMap<>(data);
+        for (String key : changedKeys) {
+            WindowPosInfo info = cachedData.get(key);
+            if (info == null) {
+                reloaded.remove(key);
+            } else {
+                reloaded.put(key, info);
+            }
+        }
+        cachedData = reloaded;
+        cachedDataStamp = stamp;
+    }
+
+    /**
+     * Reads the given data file.
+     *
+     * @param _prefFile data file
+     * @return Map, null if file does not exist or could not be read
+     */
+    private Map<String, WindowPosInfo> read(File _prefFile) {
+        if (!_prefFile.exists()) {
+            return null;
+        }
+        try {
+            return storageProvider.read(_prefFile);
+        } catch (IOException _ex) {
+            LOGGER.error("Could not read stored window position data from {}.", _prefFile, _ex);
+            return null;
+        }
+    }
+
+    /**
+     * Returns the attributes used to detect changes of the given file.
+     * The file key is included because the data file is replaced instead of being modified.
+     *
+     * @param _file file
+     * @return List, null if file does not exist
+     */
+    private static List<Object> getFileStamp(File _file) {
+        try {
+            BasicFileAttributes attrs = Files.readAttributes(_file.toPath(), BasicFileAttributes.class);
+            return Arrays.asList(attrs.lastModifiedTime(), attrs.size(), attrs.fileKey());
+        } catch (IOException _ex) {
+            return null;
+        }
+    }
+
+    /**
+     * Forgets the in-memory data, so it will be read again on next access.
+     */
+    private void invalidateCache() {
+        synchronized (dataLock) {
+            cancelPendingWrite();
+            dataStoreFile = null;
+            cachedData = null;
+            cachedDataFile = null;
+            cachedDataStamp = null;
+            dirty = false;
+            changedKeys.clear();
+        }
+    }
+
+    /**
+     * Marks the in-memory data of the given key as changed and (re-)schedules writing it in background.
+     * Must be called while holding {@link #dataLock}.
+     *
+     * @param _key changed key
+     */
+    private void scheduleWrite(String _key) {
+        dirty = true;
+        changedKeys.add(_key);
+        cancelPendingWrite();
+        pendingWrite = getWriter().schedule(this::flush, writeDelay.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Schedules another write after a failed write.
+     * Nothing is scheduled if the writer was stopped, the changes are written with the next change or flush then.
+     * Must be called while holding {@link #dataLock}.
+     */
+    private void scheduleRetry() {
+        if (writer != null && pendingWrite == null && !writer.isShutdown()) {
+            pendingWrite = writer.schedule(this::flush, writeDelay.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void cancelPendingWrite() {
+        if (pendingWrite != null) {
+            pendingWrite.cancel(false);
+            pendingWrite = null;
+        }
+    }
+
+    private ScheduledExecutorService getWriter() {
+        if (writer == null) {
+            writer = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "WindowStateService-Writer-" + storageFile);
+                t.setDaemon(true);
+                return t;
+            });
+            shutdownHook = new Thread(this::flush, "WindowStateService-Shutdown-" + storageFile);
+            Runtime.getRuntime().addShutdownHook(shutdownHook);
+        }
+        return writer;
+    }
+
+    /**
+     * Writes pending changes and stops the background writer thread.
+     * The instance can still be used afterwards, the writer thread is started again on the next change.
+     */
+    @Override
+    public void close() {
+        flush();
+        ScheduledExecutorService oldWriter;
+        Thread oldHook;
+        synchronized (dataLock) {
+            cancelPendingWrite();
+            oldWriter = writer;
+            oldHook = shutdownHook;
+            writer = null;
+            shutdownHook = null;
+        }
+        if (oldWriter != null) {
+            oldWriter.shutdown();
+        }
+        if (oldHook != null) {
+            try {
+                Runtime.getRuntime().removeShutdownHook(oldHook);
+            } catch (IllegalStateException _ex) {
+                LOGGER.trace("JVM is already shutting down", _ex);
+            }
+        }
+    }
+
+    /**
+     * Writes pending changes to the data file immediately.
+     * Called automatically in background after changes and on JVM shutdown.
+     * <p>
+     * If writing fails, the changes are kept and writing is retried in background.
+     */
+    public void flush() {
+        synchronized (writeLock) {
+            Map<String, WindowPosInfo> snapshot;
+            Set<String> changed;
+            File prefFile;
+            synchronized (dataLock) {
+                if (!dirty || cachedData == null) {
+                    return;
+                }
+                cancelPendingWrite();
+                snapshot = new HashMap<>(cachedData);
+                changed = new HashSet<>(changedKeys);
+                prefFile = cachedDataFile;
+                dirty = false;
+                changedKeys.clear();
+                writing = true;
+            }
+
+            boolean written;
+            try {
+                written = write(prefFile, snapshot, changed);
+            } finally {
+                synchronized (dataLock) {
+                    writing = false;
+                }
+            }
+
+            if (!written) {
+                synchronized (dataLock) {
+                    // data file may have been changed in the meantime, changes of the old file are dropped then
+                    if (cachedData != null && cachedDataFile == prefFile) {
+                        dirty = true;
+                        changedKeys.addAll(changed);
+                        scheduleRetry();
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes the given data to the data file.
+     *
+     * @param _prefFile data file
+     * @param _data data to save
+     * @param _changed keys changed since the last successful write
+     * @return true if data was written
+     */
+    private boolean write(File _prefFile, Map<String, WindowPosInfo> _data, Set<String> _changed) {
+        File folder = _prefFile.getAbsoluteFile().getParentFile();
+        if (!folder.exists() && !folder.mkdirs()) {
+            LOGGER.error("Could not create folder {} to save window positions.", folder);
+            return false;
+        }
+
+        IWindowDataStorage provider = storageProvider;
+        if (provider instanceof IIncrementalWindowDataStorage) {
+            try {
+                ((IIncrementalWindowDataStorage) provider).append(_prefFile, _data, _changed);
+                return true;
+            } catch (IOException _ex) {
+                LOGGER.error("Could not save window position to file {}." , _prefFile, _ex);
+                return false;
+            }
+        }
+        return writeAtomically(provider, _prefFile, _data);
+    }
+
+    /**
+     * Writes the given data to a temporary file which then replaces the data file,
+     * so the data file is never left in a partially written state.
+     *
+     * @param _provider provider used for the whole write, the provider of this instance may be changed concurrently
+     * @param _prefFile data file
+     * @param _data data to save
+     * @return true if data was written
+     */
+    private boolean writeAtomically(IWindowDataStorage _provider, File _prefFile, Map<String, WindowPosInfo> _data) {
+        File tmpFile = StorageFiles.getTempFile(_prefFile);
+        try {
+            _provider.write(tmpFile, _data);
+            StorageFiles.replace(tmpFile, _prefFile);
+            return true;
+        } catch (IOException _ex) {
+            LOGGER.error("Could not save window position to file {}." , _prefFile, _ex);
+            tmpFile.delete();
+            return false;
+        }
+    }
+
+    /**
+     * Returns the file object where the saved window data could be found.
+     * @return File
+     */
+    private File getDataStoreFile() {
+        File prefFile = dataStoreFile;
+        if (prefFile == null) {
+            String fileName = storageFile + "." + storageProvider.getFileExtension();
+            prefFile = new File(storageFolder, fileName);
+            dataStoreFile = prefFile;
+        }
+        return prefFile;
+    }
+
+    /**
+     * Save given stage status/size with the given name.
+     * @param _controller class to use
+     * @param _stage stage to save
+     */
+    public void saveWindowPosition(Initializable _controller, Stage _stage) {
+        if (!enabled) {
+            return;
+        }
+
+        Objects.requireNonNull(_controller, "Window class cannot be null");
+        Objects.requireNonNull(_stage, "Stage cannot be null");
+
+        WindowData windowPrefsSaveLoad = _controller instanceof ISaveWindowPreferences ? ((ISaveWindowPreferences) _controller).saveWindowPreferences() : WindowData.NONE;
+        windowPrefsSaveLoad = windowPrefsSaveLoad == null ? WindowData.NONE : windowPrefsSaveLoad;
+
+        if (windowPrefsSaveLoad == WindowData.NONE) {
+            clearSavedWindowPreferences(_controller.getClass());
+
+        } else {
+            WindowPosInfo posInfo;
+            synchronized (dataLock) {
+                WindowPosInfo stored = getCachedData().get(_controller.getClass().getName());
+                // never modify stored instances, they may be written in background right now
+                posInfo = stored == null ? new WindowPosInfo() : new WindowPosInfo(stored);
+            }
+
+            if (windowPrefsSaveLoad == WindowData.POSITION || windowPrefsSaveLoad == WindowData.BOTH) {
+                posInfo.setX(_stage.getX());
+                posInfo.setY(_stage.getY());
+            }
+
+            if (windowPrefsSaveLoad == WindowData.SIZE || windowPrefsSaveLoad == WindowData.BOTH) {
+                posInfo.setHeight(_stage.getHeight());
+                posInfo.setWidth(_stage.getWidth());
+                posInfo.setMaximized(_stage.isMaximized());
+
+                ScreenSnapshot.ScreenInfo screen = ScreenSnapshot.current().getScreenAt(_stage.getX(), _stage.getY());
+                posInfo.setOutputScaleX(screen == null ? 0 : screen.getOutputScaleX());
+                posInfo.setOutputScaleY(screen == null ? 0 : screen.getOutputScaleY());
+
+                if (_stage.getScene() != null && _stage.getScene().getRoot() != null) {
+                    posInfo.setMinWidth(_stage.getScene().getRoot().minWidth(-1));
+                    posInfo.setMinHeight(_stage.getScene().getRoot().minHeight(-1));
+                }
+            }
+            posInfo.setTitle(_stage.getTitle());
+
+            synchronized (dataLock) {
+                getCachedData().put(_controller.getClass().getName(), posInfo);
+                scheduleWrite(_controller.getClass().getName());
+            }
+
+            LOGGER.debug("Saving window properties: window={}, width={}, heigth={}, x={}, y={}, maximized={}", _controller.getClass().getName(), _stage.getWidth(), _stage.getHeight(), _stage.getX(), _stage.getY(), _stage.isMaximized());
+        }
+    }
+
+    /**
+     * Clear all saved window preferences for the given controller class.
+     *
+     * @param _windowClass window controller class
+     */
+    public void clearSavedWindowPreferences(Class<? extends Initializable> _windowClass) {
+        if (!enabled) {
+            return;
+        }
+
+        if (_windowClass == null) {
+            return;
+        }
+        clearSavedWindowPreferences(_windowClass.getName());
+    }
+
+    /**
+     * Remove all saved window preferences found under given class name.
+     * @param _windowClassName name of the window class to clear preferences for
+     */
+    public void clearSavedWindowPreferences(String _windowClassName) {
+        if (!enabled) {
+            return;
+        }
+
+        if (_windowClassName == null || _windowClassName.isBlank()) {
+            return;
+        }
+
+        synchronized (dataLock) {
+            if (getCachedData().remove(_windowClassName) != null) {
+                LOGGER.debug("Removing stored window positions for window: {}", _windowClassName);
+                scheduleWrite(_windowClassName);
+            }
+        }
+    }
+    /**
+     * Clear all saved window preferences.
+     */
+    public void clearAllSavedWindowPreferences() {
+        if (!enabled) {
+            return;
+        }
+
+        synchronized (writeLock) {
+            synchronized (dataLock) {
+                cancelPendingWrite();
+                dirty = false;
+                changedKeys.clear();
+                cachedData = new HashMap<>();
+                cachedDataFile = getDataStoreFile();
+                // file is deleted below, do not reload the old content until then
+                cachedDataStamp = getFileStamp(cachedDataFile);
+            }
+
+            File store = getDataStoreFile();
+            if (store == null || !store.exists()) {
+                return;
+            }
+
+            if (store.delete()) {
+                LOGGER.info("Removed all stored window positions ({} deleted)", store);
+            } else {
+                LOGGER.error("Could not remove window position data store file {}", store);
+            }
+        }
+    }
+
+    /**
+     * Restores the store default sizes of the given window (if any).
+     * 
+     * @param _controllerClass controller class
+     * @param _stage stage to resize
+     */
+    public void restoreDefaultWindowSize(Class<?> _controllerClass, Stage _stage) {
+        if (!enabled) {
+            return;
+        }
+        Objects.requireNonNull(_controllerClass, "Controller class cannot be null");
+        Objects.requireNonNull(_stage, "Stage cannot be null");
+
+        WindowPosInfo storedData;
+        synchronized (dataLock) {
+            storedData = getCachedData().get(_controllerClass.getName());
+        }
+        if (storedData == null) {
+            return; // no saved defaults
+        }
+
+        _stage.setMaxHeight(storedData.getMaxHeight());
+        _stage.setMinHeight(storedData.getMinHeight());
+
+        _stage.setMinWidth(storedData.getMinWidth());
+        _stage.setMaxWidth(storedData.getMaxWidth());
+        
+        _stage.sizeToScene();
+
+    }
+    
+    /**
+     * Restores the store default sizes of the given window (if any).
+     * 
+     * @param _controller controller
+     * @param _stage stage to resize
+     */
+    public void restoreDefaultWindowSize(Initializable _controller, Stage _stage) {
+        Objects.requireNonNull(_controller, "Controller cannot be null");
+        restoreDefaultWindowSize(_controller.getClass(), _stage);
+    }
+    
+    /**
+     * Calculates position and size of a restored window on the given screen.
+     * <p>
+     * If the output scale of the screen has changed since the window was saved (e.g. the monitor was replaced
+     * or its scaling was changed), size and offset to the screen origin are scaled, so the window keeps its physical size.
+     * The size is limited to the visual bounds of the screen.
+     *
+     * @param _posInfo saved window data
+     * @param _screen screen at the saved position, null if unknown
+     * @return position and size to use
+     */
+    static Rectangle2D fitToScreen(WindowPosInfo _posInfo, ScreenSnapshot.ScreenInfo _screen) {
+        double x = _posInfo.getX();
+        double y = _posInfo.getY();
+        double width = _posInfo.getWidth();
+        double height = _posInfo.getHeight();
+        if (_screen == null) {
+            return new Rectangle2D(x, y, width, height);
+        }
+
+        Rectangle2D screenBounds = _screen.getBounds();
+        if (_posInfo.getOutputScaleX() > 0 && _screen.getOutputScaleX() > 0 && _posInfo.getOutputScaleX() != _screen.getOutputScaleX()) {
+            double factor = _posInfo.getOutputScaleX() / _screen.getOutputScaleX();
+            x = screenBounds.getMinX() + (x - screenBounds.getMinX()) * factor;
+            width *= factor;
+        }
+        if (_posInfo.getOutputScaleY() > 0 && _screen.getOutputScaleY() > 0 && _posInfo.getOutputScaleY() != _screen.getOutputScaleY()) {
+            double factor = _posInfo.getOutputScaleY() / _screen.getOutputScaleY();
+            y = screenBounds.getMinY() + (y - screenBounds.getMinY()) * factor;
+            height *= factor;
+        }
+
+        // the monitor may have been replaced by one with smaller resolution since the size was saved
+        width = Math.min(width, _screen.getVisualBounds().getWidth());
+        height = Math.min(height, _screen.getVisualBounds().getHeight());
+        return new Rectangle2D(x, y, width, height);
+    }
+
+    /**
+     * Restore given stage status/size to values found with the given name.
+     * @param _controller controller/window to restore
+     * @param _stage stage to restore
+     * @param _root parent
+     */
+    public void restoreWindowPosition(Initializable _controller, Stage _stage, Parent _root) {
+        if (!enabled) {
+            return;
+        }
+
+        Objects.requireNonNull(_controller, "WindowController cannot be null");
+        Objects.requireNonNull(_stage, "Stage cannot be null");
+
+        // force layout before applying window saver position/size because stage is uninitialized before
+        _stage.getScene().getRoot().layout();
+        _stage.sizeToScene();
+
+        WindowData windowPrefsSaveLoad = _controller instanceof ISaveWindowPreferences ? ((ISaveWindowPreferences) _controller).saveWindowPreferences() : WindowData.NONE;
+        windowPrefsSaveLoad = windowPrefsSaveLoad == null ? WindowData.NONE : windowPrefsSaveLoad;
+
+        if (windowPrefsSaveLoad == WindowData.NONE) {
+            return;
+        }
+
+        WindowPosInfo posInfo;
+        synchronized (dataLock) {
+            posInfo = getCachedData().get(_controller.getClass().getName());
+        }
+
+        if (posInfo == null) {
+            return; // no saved data
+        }
+        // work on a copy, stored instances must not be modified
+        posInfo = new WindowPosInfo(posInfo);
+
+        // if default has changed, remove saved settings and do NOT load changed window dimensions/positions
+        if (maybeUpdateDefaults(posInfo, _controller, _stage, _root)) {
+            LOGGER.info("Will not restore window position/dimension due to changed default sizes (removing old invalid)");
+            clearSavedWindowPreferences(_controller.getClass());
+            return;
+        }
+
+        ScreenSnapshot screens = ScreenSnapshot.current();
+
+        // X position is off screen
+        if (posInfo.getX() > screens.getMaxX() -10 || posInfo.getX() < screens.getMinX()) {
+            return;
+        }
+
+        // Y position is off screen
+        if (posInfo.getY() > screens.getMaxY() || posInfo.getY() < screens.getMinY()) {
+            return;
+        }
+
+        // width is smaller/bigger than screen resolution
+        if (posInfo.getWidth() < screens.getMinX() || posInfo.getWidth() > screens.getMaxX()) {
+            return;
+        }
+
+        // height is smaller/bigger than screen resolution
+        if (posInfo.getHeight() < screens.getMinY() || posInfo.getHeight() > screens.getMaxY()) {
+            return;
+        }
+
+        ScreenSnapshot.ScreenInfo screen = screens.getScreenAt(posInfo.getX(), posInfo.getY());
+        Rectangle2D bounds = fitToScreen(posInfo, screen);
+        double width = bounds.getWidth();
+        double height = bounds.getHeight();
+
+        LOGGER.debug("Restoring window properties: window={}, saveLoadOption={}, screen={}, {}", _controller.getClass().getName(), windowPrefsSaveLoad, screen, posInfo);
+
+        EventHandler<WindowEvent> onShown = _stage.getOnShown();
+        EventHandler<WindowEvent> onCloseRequest = _stage.getOnCloseRequest();
+        
+        _stage.setOnShown(ev -> {});
+        _stage.setOnCloseRequest(ev -> {});
+        
+        _stage.hide(); // hide window so it is not "flickering"
+        
+        if (windowPrefsSaveLoad == WindowData.BOTH || windowPrefsSaveLoad == WindowData.SIZE) {
+            _stage.setHeight(height);
+            _stage.setWidth(width);
+            _stage.setMaximized(posInfo.isMaximized());
+        }
+
+        _stage.setX(bounds.getMinX());
+        _stage.setY(bounds.getMinY());
+        
+        _stage.show(); // show again
+        _stage.setOnShown(onShown);
+        _stage.setOnCloseRequest(onCloseRequest);
+
+    }
+
+    /**
+     * Updates the saved default values if values have been changed.
+     *
+     * @param _posInfo window position info
+     * @param _windowClass window controller class
+     * @param _stage stage to check
+     * @return true if changes were applied, false otherwise
+     */
+    private static boolean maybeUpdateDefaults(WindowPosInfo _posInfo, Initializable _windowClass, Stage _stage, Parent _root) {
+        boolean hasChanged = false;
+
+        for (DefaultWindowPrefs dwp : DefaultWindowPrefs.values()) {
+            double oldDefaultMin = dwp.getMinGetter().apply(_posInfo);
+            double oldDefaultMax = dwp.getMaxGetter().apply(_posInfo);
+
+            Double min = dwp.getStageMinGetter().apply(_stage);
+            // minimum value was changed and needs to be bigger than the old value
+            if (min > oldDefaultMin) {
+                LOGGER.debug("{} default window min{} changed from {} to {}", _windowClass.getClass().getSimpleName(), dwp.getLogStr(), oldDefaultMin == -1 ? "NOT SET" : oldDefaultMin, min);
+                dwp.getMinSetter().accept(_posInfo, min);
+                hasChanged = true;
+            }
+
+            Double max = dwp.getStageMaxGetter().apply(_stage);
+            // max value was changed and has to be smaller than the old value
+            if (max < oldDefaultMax) {
+                LOGGER.debug("{} default window min{} changed from {} to {}", _windowClass.getClass().getSimpleName(), dwp.getLogStr(), oldDefaultMax == -1 ? "NOT SET" : oldDefaultMax, max);
+                dwp.getMaxSetter().accept(_posInfo, min);
+                hasChanged = true;
+            }
+
+        }
+
+        return hasChanged;
+    }
+
+    /**
+     * Helper enum to read/write default window properties like min/max/pref values.
+     *
+     * @author hypfvieh
+     * @since v11.0.0 - 2020-09-11
+     */
+    enum DefaultWindowPrefs {
+        HEIGHT("Height",
+                wi -> wi.getMinHeight(), // min window height getter
+                wi -> wi.getMaxHeight(), // max window height getter
+                (wi, d) -> wi.setMinHeight(d), // min window height setter
+                (wi, d) -> wi.setMaxHeight(d), // max window height setter
+                st -> st.getMinHeight(), // get min height from stage
+                st -> st.getMaxHeight() // get max height from stage
+        ),
+        WIDTH("Width",
+                wi -> wi.getMinWidth(), // min window width getter
+                wi -> wi.getMaxWidth(), // max window width getter
+                (wi, d) -> wi.setMinWidth(d), // min window width Setter
+                (wi, d) -> wi.setMaxWidth(d), // max window width Setter
+                st -> st.getMinWidth(), // get min width from stage
+                st -> st.getMaxWidth() // get max width from stage
+        );
+
+        private final String logStr;
+
+        /** stored minimum width/height getter */
+        private final Function<WindowPosInfo, Double> minGetter;
+        /** stored minimum width/height setter */
+        private final BiConsumer<WindowPosInfo, Double> minSetter;
+        /** stored maximum width/height setter */
+        private final BiConsumer<WindowPosInfo, Double> maxSetter;
+        /** stored maximum width/height getter */
+        private final Function<WindowPosInfo, Double> maxGetter;
+
+        /** stage minimum width/height getter */
+        private final Function<Stage, Double> stageMinGetter;
+        /** stage maximum width/height getter */
+        private final Function<Stage, Double> stageMaxGetter;
+
+
+        DefaultWindowPrefs(String _logStr,
+                Function<WindowPosInfo, Double> _minGetter,
+                Function<WindowPosInfo, Double> _maxGetter,
+                BiConsumer<WindowPosInfo, Double> _minSetter,
+                BiConsumer<WindowPosInfo, Double> _maxSetter,
+                Function<Stage, Double> _stageMinGetter,
+                Function<Stage, Double> _stageMaxGetter
+                ) {
+
+            minGetter = _minGetter;
+            logStr = _logStr;
+            maxGetter = _maxGetter;
+            minSetter = _minSetter;
+            maxSetter = _maxSetter;
+            stageMinGetter = _stageMinGetter;
+            stageMaxGetter = _stageMaxGetter;
+        }
+
+        public String getLogStr() {
+            return logStr;
+        }
+
+        public Function<WindowPosInfo, Double> getMinGetter() {
+            return minGetter;
+        }
+
+        public BiConsumer<WindowPosInfo, Double> getMinSetter() {
+            return minSetter;
+        }
+
+        public Function<Stage, Double> getStageMinGetter() {
+            return stageMinGetter;
+        }
+
+        public Function<Stage, Double> getStageMaxGetter() {
+            return stageMaxGetter;
+        }
+
+        public BiConsumer<WindowPosInfo, Double> getMaxSetter() {
+            return maxSetter;
+        }
+
+        public Function<WindowPosInfo, Double> getMaxGetter() {
+            return maxGetter;
+        }
+
+    }
+}
@@ -0,0 +1,92 @@
+package com.github.hypfvieh.javafx.db;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AssociationPrefetcherTest {
+
+    @BeforeEach
+    void beforeEach() {
+        DbManager.setHibernateXml("hibernate_entities.cfg.xml");
+        DbManager.getQueryUtil().doInTransaction(s -> {
+            TestOwner first = new TestOwner(1, "first");
+            TestOwner second = new TestOwner(2, "second");
+            s.persist(first);
+            s.persist(second);
+            s.persist(new TestItem(1, "a", first));
+            s.persist(new TestItem(2, "b", first));
+            s.persist(new TestItem(3, "c", second));
+        });
+    }
+
+    @AfterEach
+    void afterEach() {
+        DbManager.closeInstance();
+    }
+
+    @Test
+    void testPrefetchCollection() {
+        QueryUtil queryUtil = DbManager.getQueryUtil();
+        List<TestOwner> owners = loadDetachedOwners(queryUtil);
+        assertFalse(Hibernate.isInitialized(owners.get(0).getItems()));
+
+        assertSame(owners, queryUtil.prefetch(owners, "items"));
+
+        assertTrue(Hibernate.isInitialized(owners.get(0).getItems()));
+        assertEquals(2, owners.get(0).getItems().size());
+        assertEquals(1, owners.get(1).getItems().size());
+        assertEquals("c", owners.get(1).getItems().get(0).getName());
+    }
+
+    @Test
+    void testKeepInitializedAssociationsAndProperties() {
+        QueryUtil queryUtil = DbManager.getQueryUtil();
+        List<TestOwner> owners = loadDetachedOwners(queryUtil);
+
+        List<TestItem> editedItems = new ArrayList<>();
+        owners.get(0).setItems(editedItems);
+        owners.get(0).setName("edited");
+
+        queryUtil.prefetch(owners, "items", "name");
+
+        assertSame(editedItems, owners.get(0).getItems(), "Initialized association must not be replaced");
+        assertEquals("edited", owners.get(0).getName(), "Properties which are no associations must not be copied");
+        assertTrue(Hibernate.isInitialized(owners.get(1).getItems()));
+    }
+
+    @Test
+    void testUpdateAfterPrefetch() {
+        QueryUtil queryUtil = DbManager.getQueryUtil();
+        List<TestOwner> owners = loadDetachedOwners(queryUtil);
+        queryUtil.prefetch(owners, "items");
+
+        owners.get(0).setName("changed");
+        queryUtil.doInTransactionInNewSession(s -> owners.forEach(s::update));
+
+        String name = queryUtil.queryInNewSession(s -> s.get(TestOwner.class, 1L).getName());
+        assertEquals("changed", name);
+    }
+
+    @Test
+    void testInvalidPath() {
+        QueryUtil queryUtil = DbManager.getQueryUtil();
+        List<TestOwner> owners = loadDetachedOwners(queryUtil);
+
+        assertThrows(IllegalArgumentException.class, () -> queryUtil.prefetch(owners, ""));
+    }
+
+    private static List<TestOwner> loadDetachedOwners(QueryUtil _queryUtil) {
+        return _queryUtil.queryInNewSession(s -> s.createQuery("FROM TestOwner ORDER BY id", TestOwner.class).getResultList());
+    }
+}
@@ -1,6 +1,10 @@
 package com.github.hypfvieh.javafx.db;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
 import java.util.ArrayList;
@@ -10,6 +14,7 @@ import java.util.Map;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
+import com.github.hypfvieh.javafx.db.DbManager.DbAccess;
 import com.github.hypfvieh.javafx.db.DbManager.DbCred;
 
 class DbManagerTest {
@@ -61,4 +66,63 @@ class DbManagerTest {
         DbManager.closeInstance();
     }
 
+    @Test
+    void testInitializeInBackground() {
+        DbManager.setHibernateXml("hibernate_nopw.cfg.xml");
+        DbManager.configureConnectionPool(1, 2);
+
+        assertFalse(DbManager.isInitialized());
+        DbManager.initializeInBackground().join();
+        assertTrue(DbManager.isInitialized());
+
+        Number result = DbManager.getQueryUtil().queryInSession(s -> (Number) s.createNativeQuery("SELECT 1").getSingleResult());
+        assertEquals(1, result.intValue());
+
+        DbManager.closeInstance();
+    }
+
+    @Test
+    void testReadDataSourceRouting() {
+        DbManager.setHibernateXml("hibernate_nopw.cfg.xml");
+        DbDataSource report = DbManager.registerDataSource("report", "hibernate_nopw.cfg.xml");
+        report.setHibernateProperty(DbCred.URL.getHibernateParameter(), "jdbc:h2:mem:report;DB_CLOSE_DELAY=-1");
+
+        try {
+            assertThrows(IllegalArgumentException.class, () -> DbManager.registerDataSource("report", "hibernate_nopw.cfg.xml"));
+            assertThrows(IllegalArgumentException.class, () -> DbManager.setReadDataSource("unknown"));
+
+            assertEquals(DbManager.DEFAULT_DATASOURCE, DbManager.getDataSource(DbAccess.READ).getName());
+
+            DbManager.setReadDataSource("report");
+            assertEquals("report", DbManager.getDataSource(DbAccess.READ).getName());
+            assertEquals(DbManager.DEFAULT_DATASOURCE, DbManager.getDataSource(DbAccess.WRITE).getName());
+
+            QueryUtil readUtil = DbManager.getNewQueryUtil(DbAccess.READ);
+            assertTrue(readUtil.isReadOnly());
+            assertNotSame(DbManager.getQueryUtilPool(DbAccess.READ), DbManager.getQueryUtilPool(DbAccess.WRITE));
+        } finally {
+            DbManager.closeAll();
+        }
+
+        assertEquals(DbManager.DEFAULT_DATASOURCE, DbManager.getDataSource(DbAccess.READ).getName());
+    }
+
+    @Test
+    void testOpenSessionTracking() {
+        DbManager.setHibernateXml("hibernate_nopw.cfg.xml");
+
+        QueryUtil first = DbManager.getNewQueryUtil();
+        QueryUtil second = DbManager.getNewQueryUtil();
+        assertEquals(2, DbManager.getOpenSessionCount());
+
+        first.closeSession();
+        assertEquals(1, DbManager.getOpenSessionCount());
+
+        DbManager.getQueryUtil();
+        assertEquals(2, DbManager.getOpenSessionCount());
+
+        DbManager.closeInstance();
+        assertFalse(second.hasOpenSession());
+    }
+
 }
@@ -0,0 +1,67 @@
+package com.github.hypfvieh.javafx.db;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class QueryMetricsTest {
+
+    @Test
+    void testHistogramBuckets() {
+        for (long v : List.of(0L, 1L, 15L, 16L, 17L, 100L, 1_000L, 123_456L, 10_000_000_000L, Long.MAX_VALUE)) {
+            int idx = LatencyHistogram.bucketIndex(v);
+            long upper = LatencyHistogram.bucketUpperBound(idx);
+            assertTrue(upper >= v, "Upper bound " + upper + " below " + v);
+            assertTrue(upper - v <= v / LatencyHistogram.SUB_BUCKETS, "Bucket of " + v + " too wide: " + upper);
+            if (idx > 0) {
+                assertTrue(LatencyHistogram.bucketUpperBound(idx - 1) < v);
+            }
+        }
+    }
+
+    @Test
+    void testPercentiles() {
+        QueryMetrics metrics = new QueryMetrics();
+        for (int i = 1; i <= 100; i++) {
+            metrics.queryFinished("q", i * 1_000_000L, 10, null);
+        }
+
+        QueryStatistics stats = metrics.getStatistics("q");
+        assertEquals(100, stats.getCount());
+        assertEquals(1000, stats.getTotalRows());
+        assertEquals(10, stats.getMaxRows());
+        assertEquals(Duration.ofMillis(100), stats.getMaxTime());
+        assertEquals(Duration.ofNanos(50_500_000), stats.getMeanTime());
+
+        long p50 = stats.getPercentile(50).toMillis();
+        long p99 = stats.getPercentile(99).toMillis();
+        assertTrue(p50 >= 50 && p50 <= 57, "p50 was " + p50);
+        assertTrue(p99 >= 99 && p99 <= 100, "p99 was " + p99);
+    }
+
+    @Test
+    void testErrorsAndSlowQueries() {
+        QueryMetrics metrics = new QueryMetrics(Duration.ofMillis(10));
+        metrics.queryFinished("fast", 1_000_000, 1, null);
+        metrics.queryFinished("slow", 20_000_000, -1, null);
+        metrics.queryFinished(null, 1_000_000, 0, new IllegalStateException("test"));
+
+        Map<String, QueryStatistics> snapshot = metrics.snapshot();
+        assertEquals(List.of("fast", "slow", QueryUtil.UNTAGGED), List.copyOf(snapshot.keySet()));
+        assertEquals(0, snapshot.get("fast").getSlowCount());
+        assertEquals(1, snapshot.get("slow").getSlowCount());
+        assertEquals(0, snapshot.get("slow").getTotalRows());
+        assertEquals(1, snapshot.get(QueryUtil.UNTAGGED).getErrorCount());
+
+        metrics.reset();
+        assertNull(metrics.getStatistics("fast"));
+        assertTrue(metrics.snapshot().isEmpty());
+    }
+
+}
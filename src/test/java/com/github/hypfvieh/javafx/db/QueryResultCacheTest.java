@@ -0,0 +1,103 @@
+package com.github.hypfvieh.javafx.db;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.hypfvieh.javafx.db.QueryResultCache.CacheKey;
+
+class QueryResultCacheTest {
+
+    @Test
+    void testHitAndMiss() {
+        QueryResultCache cache = new QueryResultCache(10, null);
+        CacheKey key = new CacheKey(String.class, "FROM Foo WHERE a = :a", Map.of("a", 1));
+
+        assertNull(cache.get(key));
+        List<String> stored = cache.put(key, List.of("x"), Set.of());
+
+        assertEquals(List.of("x"), cache.get(new CacheKey(String.class, "FROM Foo WHERE a = :a", Map.of("a", 1))));
+        assertNull(cache.get(new CacheKey(String.class, "FROM Foo WHERE a = :a", Map.of("a", 2))));
+        assertThrows(UnsupportedOperationException.class, () -> stored.add("y"));
+
+        assertEquals(1, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    void testLruEviction() {
+        QueryResultCache cache = new QueryResultCache(2, null);
+        CacheKey key1 = new CacheKey(String.class, "q1", null);
+        CacheKey key2 = new CacheKey(String.class, "q2", null);
+        CacheKey key3 = new CacheKey(String.class, "q3", null);
+
+        cache.put(key1, List.of("1"), Set.of());
+        cache.put(key2, List.of("2"), Set.of());
+        cache.get(key1);
+        cache.put(key3, List.of("3"), Set.of());
+
+        assertEquals(2, cache.size());
+        assertNotNull(cache.get(key1));
+        assertNull(cache.get(key2));
+        assertEquals(1, cache.getEvictionCount());
+    }
+
+    @Test
+    void testTtl() throws InterruptedException {
+        QueryResultCache cache = new QueryResultCache(10, Duration.ofMillis(1));
+        CacheKey key = new CacheKey(String.class, "q", null);
+        cache.put(key, List.of("1"), Set.of());
+
+        Thread.sleep(10);
+
+        assertNull(cache.get(key));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testInvalidateByClass() {
+        QueryResultCache cache = new QueryResultCache(10, null);
+        CacheKey numberKey = new CacheKey(Number.class, "q1", null);
+        CacheKey stringKey = new CacheKey(String.class, "q2", null);
+
+        cache.put(numberKey, List.of(1), Set.of(Number.class));
+        cache.put(stringKey, List.of("1"), Set.of(String.class));
+
+        cache.invalidate(Integer.class);
+
+        assertNull(cache.get(numberKey));
+        assertNotNull(cache.get(stringKey));
+        assertEquals(1, cache.getInvalidationCount());
+    }
+
+    @Test
+    void testStaleResultNotStored() {
+        QueryResultCache cache = new QueryResultCache(10, null);
+        CacheKey numberKey = new CacheKey(Number.class, "q1", null);
+        CacheKey stringKey = new CacheKey(String.class, "q2", null);
+
+        long generation = cache.getGeneration();
+        // write committed while the queries were running
+        cache.invalidate(Integer.class);
+
+        assertEquals(List.of(1), cache.put(numberKey, List.of(1), Set.of(Number.class), generation));
+        cache.put(stringKey, List.of("1"), Set.of(String.class), generation);
+
+        assertNull(cache.get(numberKey));
+        assertNotNull(cache.get(stringKey));
+
+        generation = cache.getGeneration();
+        cache.clear();
+        cache.put(stringKey, List.of("1"), Set.of(String.class), generation);
+        assertEquals(0, cache.size());
+    }
+
+}
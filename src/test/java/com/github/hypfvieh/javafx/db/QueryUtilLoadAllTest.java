@@ -0,0 +1,98 @@
+package com.github.hypfvieh.javafx.db;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class QueryUtilLoadAllTest {
+
+    private static final int OWNER_COUNT = 1200;
+
+    @BeforeEach
+    void beforeEach() {
+        DbManager.setHibernateXml("hibernate_entities.cfg.xml");
+        DbManager.getQueryUtil().doInTransactionInNewSession(s -> {
+            for (long id = 1; id <= OWNER_COUNT; id++) {
+                s.persist(new TestOwner(id, "owner" + id));
+            }
+        });
+    }
+
+    @AfterEach
+    void afterEach() {
+        DbManager.closeInstance();
+    }
+
+    @Test
+    void testChunkedInInputOrder() {
+        QueryUtil queryUtil = DbManager.getQueryUtil();
+        List<Long> ids = LongStream.rangeClosed(1, OWNER_COUNT).boxed().collect(Collectors.toList());
+        Collections.reverse(ids);
+
+        Statistics statistics = getStatistics(queryUtil);
+        statistics.clear();
+
+        List<TestOwner> owners = queryUtil.loadAll(TestOwner.class, ids);
+
+        // more IDs than allowed in a single IN query
+        assertTrue(OWNER_COUNT > QueryUtil.DEFAULT_LOAD_BATCH_SIZE);
+        assertEquals(3, statistics.getPrepareStatementCount());
+        assertEquals(OWNER_COUNT, statistics.getEntityLoadCount());
+
+        assertEquals(ids, owners.stream().map(TestOwner::getId).collect(Collectors.toList()));
+    }
+
+    @Test
+    void testDuplicateAndMissingIds() {
+        QueryUtil queryUtil = DbManager.getQueryUtil();
+        List<Long> ids = Arrays.asList(7L, 99999L, 3L, 7L, null, 3L);
+
+        Statistics statistics = getStatistics(queryUtil);
+        statistics.clear();
+
+        List<TestOwner> owners = queryUtil.loadAll(TestOwner.class, ids, 2);
+
+        assertEquals(ids.size(), owners.size());
+        assertEquals(7L, owners.get(0).getId());
+        assertNull(owners.get(1), "Missing ID must return null");
+        assertEquals(3L, owners.get(2).getId());
+        assertSame(owners.get(0), owners.get(3));
+        assertNull(owners.get(4), "Null ID must return null");
+        assertSame(owners.get(2), owners.get(5));
+
+        // duplicates are only loaded once: 3 unique IDs in chunks of 2
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(2, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void testEntitiesOfSessionNotLoadedAgain() {
+        QueryUtil queryUtil = DbManager.getQueryUtil();
+        List<TestOwner> first = queryUtil.loadAll(TestOwner.class, List.of(1L, 2L));
+
+        Statistics statistics = getStatistics(queryUtil);
+        statistics.clear();
+
+        List<TestOwner> second = queryUtil.loadAll(TestOwner.class, List.of(2L, 1L));
+
+        assertSame(first.get(0), second.get(1));
+        assertSame(first.get(1), second.get(0));
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    private static Statistics getStatistics(QueryUtil _queryUtil) {
+        return _queryUtil.queryInSession(s -> s.getSessionFactory().getStatistics());
+    }
+}
@@ -0,0 +1,103 @@
+package com.github.hypfvieh.javafx.db;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.File;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class QueryUtilPoolTest {
+
+    @BeforeEach
+    void beforeEach() {
+        DbManager.setHibernateXml("hibernate_nopw.cfg.xml");
+    }
+
+    @AfterEach
+    void afterEach() {
+        DbManager.closeInstance();
+        File dbFile = new File(System.getProperty("java.io.tmpdir"), "test.mv.db");
+        File dbTraceFile = new File(System.getProperty("java.io.tmpdir"), "test.trace.db");
+        dbFile.delete();
+        dbTraceFile.delete();
+    }
+
+    @Test
+    void testBorrowAndRelease() {
+        DbManager.configureQueryUtilPool(2, null);
+        QueryUtilPool pool = DbManager.getQueryUtilPool();
+
+        QueryUtil first = pool.borrow();
+        QueryUtil second = pool.borrow();
+
+        assertNotSame(first, second);
+        assertEquals(2, pool.getActiveCount());
+        assertNull(pool.borrow(10, TimeUnit.MILLISECONDS), "Pool exhausted, no instance expected");
+
+        pool.release(first);
+        assertEquals(1, pool.getActiveCount());
+        assertEquals(1, pool.getIdleCount());
+
+        assertSame(first, pool.borrow(), "Idle instance should be re-used");
+        assertEquals(2, pool.getCreatedCount());
+
+        pool.release(first);
+        pool.release(second);
+        assertEquals(0, pool.getActiveCount());
+        assertEquals(3, pool.getBorrowedCount());
+    }
+
+    @Test
+    void testReleaseNotLeased() {
+        DbManager.configureQueryUtilPool(2, null);
+        QueryUtilPool pool = DbManager.getQueryUtilPool();
+
+        QueryUtil first = pool.borrow();
+        pool.release(first);
+        pool.release(first);
+        pool.release(DbManager.getQueryUtil());
+
+        assertEquals(0, pool.getActiveCount());
+        assertEquals(1, pool.getIdleCount());
+
+        QueryUtil second = pool.borrow();
+        QueryUtil third = pool.borrow();
+        assertNotSame(second, third, "Instance released twice must not be leased twice");
+        assertNull(pool.borrow(10, TimeUnit.MILLISECONDS), "Pool must not grow beyond its size");
+
+        pool.release(second);
+        pool.release(third);
+    }
+
+    @Test
+    void testIdleEviction() throws InterruptedException {
+        DbManager.configureQueryUtilPool(1, Duration.ofMillis(1));
+        QueryUtilPool pool = DbManager.getQueryUtilPool();
+
+        Integer result = pool.query(q -> q.queryInSession(s -> 1));
+        assertEquals(1, result);
+
+        Thread.sleep(20);
+        pool.evictIdle();
+
+        assertEquals(0, pool.getIdleCount());
+        assertEquals(1, pool.getEvictedCount());
+    }
+
+    @Test
+    void testClosedPool() {
+        QueryUtilPool pool = DbManager.getQueryUtilPool();
+        pool.close();
+
+        assertThrows(IllegalStateException.class, pool::borrow);
+    }
+
+}
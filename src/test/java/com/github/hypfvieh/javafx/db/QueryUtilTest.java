@@ -0,0 +1,240 @@
+package com.github.hypfvieh.javafx.db;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+import org.hibernate.Session;
+import org.hibernate.query.Query;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.PessimisticLockException;
+import javafx.application.Platform;
+
+class QueryUtilTest {
+
+    @BeforeEach
+    void beforeEach() {
+        DbManager.setHibernateXml("hibernate_nopw.cfg.xml");
+    }
+
+    @AfterEach
+    void afterEach() {
+        DbManager.closeInstance();
+        File dbFile = new File(System.getProperty("java.io.tmpdir"), "test.mv.db");
+        File dbTraceFile = new File(System.getProperty("java.io.tmpdir"), "test.trace.db");
+        dbFile.delete();
+        dbTraceFile.delete();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testStreamInNewSession() {
+        List<Integer> chunkSizes = new ArrayList<>();
+
+        long rows = DbManager.getQueryUtil().streamInNewSession(
+                s -> (Query<Object>) s.createNativeQuery("SELECT X FROM SYSTEM_RANGE(1, 1050)"),
+                100, chunk -> chunkSizes.add(chunk.size()));
+
+        assertEquals(1050, rows);
+        assertEquals(11, chunkSizes.size());
+        assertTrue(chunkSizes.subList(0, 10).stream().allMatch(c -> c == 100));
+        assertEquals(50, chunkSizes.get(10));
+    }
+
+    @Test
+    void testBatchWrite() {
+        QueryUtil queryUtil = DbManager.getQueryUtil();
+        queryUtil.doInTransaction(s -> s.createNativeQuery("CREATE TABLE BATCH_TEST (ID INT PRIMARY KEY)").executeUpdate());
+
+        BatchWriteResult result = queryUtil.batchWrite(IntStream.rangeClosed(1, 250).boxed(),
+                (s, id) -> s.createNativeQuery("INSERT INTO BATCH_TEST VALUES (:id)").setParameter("id", id).executeUpdate(),
+                20, 100, 0);
+
+        assertEquals(250, result.getRows());
+        assertEquals(3, result.getChunks());
+        assertEquals(0, result.getRetries());
+
+        Number count = queryUtil.queryInNewSession(s -> (Number) s.createNativeQuery("SELECT COUNT(*) FROM BATCH_TEST").getSingleResult());
+        assertEquals(250, count.intValue());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testInstrumentation() {
+        QueryMetrics metrics = new QueryMetrics();
+        DbManager.setQueryInstrumentation(metrics);
+        QueryUtil queryUtil = DbManager.getQueryUtil();
+
+        List<Object> rows = queryUtil.queryInSession("range", s -> s.createNativeQuery("SELECT X FROM SYSTEM_RANGE(1, 25)").getResultList());
+        queryUtil.queryInSession("range", s -> s.createNativeQuery("SELECT X FROM SYSTEM_RANGE(1, 5)").getResultList());
+        queryUtil.executeInSession(s -> s.createNativeQuery("SELECT 1").getSingleResult());
+
+        assertEquals(25, rows.size());
+        QueryStatistics stats = metrics.getStatistics("range");
+        assertEquals(2, stats.getCount());
+        assertEquals(30, stats.getTotalRows());
+        assertEquals(25, stats.getMaxRows());
+        assertEquals(1, metrics.getStatistics(QueryUtil.UNTAGGED).getCount());
+    }
+
+    @Test
+    void testRetry() {
+        QueryUtil queryUtil = DbManager.getQueryUtil();
+        RetryPolicy policy = RetryPolicy.build().withMaxAttempts(3).withBackoff(Duration.ofMillis(1), Duration.ofMillis(5));
+        List<Session> sessions = new ArrayList<>();
+
+        queryUtil.doInTransaction(s -> {
+            sessions.add(s);
+            if (sessions.size() < 3) {
+                throw new PessimisticLockException("simulated lock conflict");
+            }
+        }, policy);
+
+        assertEquals(3, sessions.size());
+        assertEquals(3, sessions.stream().distinct().count());
+
+        sessions.clear();
+        assertThrows(IllegalStateException.class, () -> queryUtil.doInTransactionInNewSession(s -> {
+            sessions.add(s);
+            throw new IllegalStateException("not transient");
+        }, policy));
+        assertEquals(1, sessions.size());
+    }
+
+    @Test
+    void testTimeout() {
+        QueryUtil queryUtil = DbManager.getQueryUtil();
+        String slowQuery = "SELECT COUNT(*) FROM SYSTEM_RANGE(1, 100000) A, SYSTEM_RANGE(1, 100000) B WHERE A.X + B.X = 7";
+
+        long start = System.nanoTime();
+        QueryTimeoutException ex = assertThrows(QueryTimeoutException.class,
+            () -> queryUtil.queryInSession("slow", Duration.ofMillis(200), s -> s.createNativeQuery(slowQuery).getSingleResult()));
+        assertEquals("slow", ex.getTag());
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofSeconds(10)) < 0);
+
+        // default session still usable
+        Number one = queryUtil.queryInSession(s -> (Number) s.createNativeQuery("SELECT 1").getSingleResult());
+        assertEquals(1, one.intValue());
+
+        queryUtil.setDefaultTimeout(Duration.ofMillis(200));
+        assertThrows(QueryTimeoutException.class,
+            () -> queryUtil.executeInNewSession(s -> s.createNativeQuery(slowQuery).getSingleResult()));
+    }
+
+    @Test
+    void testQueryAsync() throws Exception {
+        QueryUtil queryUtil = DbManager.getQueryUtil();
+        List<Runnable> tasks = new ArrayList<>();
+        queryUtil.setAsyncExecutor(tasks::add);
+
+        CompletableFuture<Number> future = queryUtil.queryAsync(s -> (Number) s.createNativeQuery("SELECT COUNT(*) FROM SYSTEM_RANGE(1, 25)").getSingleResult());
+        assertFalse(future.isDone(), "Query must be executed by the executor");
+        assertEquals(1, tasks.size());
+
+        tasks.get(0).run();
+        assertEquals(25, future.get().intValue());
+
+        CompletableFuture<Object> failing = queryUtil.queryAsync(s -> s.createNativeQuery("SELECT * FROM NOT_EXISTING").getSingleResult());
+        tasks.get(1).run();
+        assertTrue(failing.isCompletedExceptionally());
+    }
+
+    @Test
+    void testQueryAsyncCancelledBeforeStart() {
+        QueryUtil queryUtil = DbManager.getQueryUtil();
+        List<Runnable> tasks = new ArrayList<>();
+        queryUtil.setAsyncExecutor(tasks::add);
+        AtomicBoolean executed = new AtomicBoolean();
+
+        CompletableFuture<Object> future = queryUtil.queryAsync(s -> executed.getAndSet(true));
+        assertTrue(future.cancel(true));
+        tasks.get(0).run();
+
+        assertTrue(future.isCancelled());
+        assertFalse(executed.get(), "Cancelled query must not be executed");
+    }
+
+    @Test
+    void testQueryAsyncCancelRunningQuery() throws Exception {
+        QueryUtil queryUtil = DbManager.getQueryUtil();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        queryUtil.setAsyncExecutor(executor);
+        String slowQuery = "SELECT COUNT(*) FROM SYSTEM_RANGE(1, 100000) A, SYSTEM_RANGE(1, 100000) B WHERE A.X + B.X = 7";
+        AtomicReference<RuntimeException> queryError = new AtomicReference<>();
+
+        try {
+            CompletableFuture<Object> future = queryUtil.queryAsync(s -> {
+                try {
+                    return s.createNativeQuery(slowQuery).setTimeout(30).getSingleResult();
+                } catch (RuntimeException _ex) {
+                    queryError.set(_ex);
+                    throw _ex;
+                }
+            });
+
+            // wait until the statement is running, otherwise there is nothing to cancel
+            long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+            while (!isExecuting(queryUtil, "A.X + B.X = 7")) {
+                assertTrue(System.nanoTime() < deadline, "Query not started");
+                Thread.sleep(20);
+            }
+
+            long start = System.nanoTime();
+            assertTrue(future.cancel(true));
+            executor.shutdown();
+
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS), "Running query must be cancelled");
+            assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofSeconds(10)) < 0);
+            assertNotNull(queryError.get(), "Query must be aborted by Session.cancelQuery()");
+            assertTrue(future.isCancelled());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testQueryAsyncCallbacksOnFxThread() throws Exception {
+        try {
+            Platform.startup(() -> { });
+        } catch (IllegalStateException _ex) {
+            // already started
+        }
+        QueryUtil queryUtil = DbManager.getQueryUtil();
+
+        CompletableFuture<Boolean> success = new CompletableFuture<>();
+        queryUtil.queryAsync(s -> s.createNativeQuery("SELECT 1").getSingleResult(),
+            r -> success.complete(Platform.isFxApplicationThread()), success::completeExceptionally);
+        assertTrue(success.get(10, TimeUnit.SECONDS), "Result must be delivered on JavaFX thread");
+
+        CompletableFuture<Boolean> error = new CompletableFuture<>();
+        queryUtil.queryAsync(s -> s.createNativeQuery("SELECT * FROM NOT_EXISTING").getSingleResult(),
+            r -> error.complete(false), ex -> error.complete(Platform.isFxApplicationThread()));
+        assertTrue(error.get(10, TimeUnit.SECONDS), "Error must be delivered on JavaFX thread");
+    }
+
+    private static boolean isExecuting(QueryUtil _queryUtil, String _statementPart) {
+        Number running = _queryUtil.queryInNewSession(s -> (Number) s.createNativeQuery(
+                "SELECT COUNT(*) FROM INFORMATION_SCHEMA.SESSIONS WHERE SESSION_ID <> SESSION_ID() AND EXECUTING_STATEMENT LIKE :stmt")
+            .setParameter("stmt", "%" + _statementPart + "%")
+            .getSingleResult());
+        return running.intValue() > 0;
+    }
+
+}
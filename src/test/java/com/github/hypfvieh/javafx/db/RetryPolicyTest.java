@@ -0,0 +1,58 @@
+package com.github.hypfvieh.javafx.db;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.SQLException;
+import java.sql.SQLTransactionRollbackException;
+import java.time.Duration;
+
+import org.hibernate.exception.LockAcquisitionException;
+import org.junit.jupiter.api.Test;
+
+class RetryPolicyTest {
+
+    @Test
+    void testExponentialBackoff() {
+        RetryPolicy policy = RetryPolicy.build()
+            .withBackoff(Duration.ofMillis(10), Duration.ofMillis(50))
+            .withJitter(0);
+
+        assertEquals(10, policy.getDelayMillis(1));
+        assertEquals(20, policy.getDelayMillis(2));
+        assertEquals(40, policy.getDelayMillis(3));
+        assertEquals(50, policy.getDelayMillis(4));
+    }
+
+    @Test
+    void testJitter() {
+        RetryPolicy policy = RetryPolicy.build()
+            .withBackoff(Duration.ofMillis(100), Duration.ofMillis(100))
+            .withJitter(0.5);
+
+        for (int i = 0; i < 100; i++) {
+            long delay = policy.getDelayMillis(1);
+            assertTrue(delay >= 50 && delay <= 100, "Delay out of range: " + delay);
+        }
+    }
+
+    @Test
+    void testShouldRetry() {
+        RetryPolicy policy = RetryPolicy.build().withMaxAttempts(3);
+        RuntimeException deadlock = new LockAcquisitionException("deadlock", new SQLException("deadlock", "40001"));
+
+        assertTrue(policy.shouldRetry(deadlock, 1));
+        assertTrue(policy.shouldRetry(deadlock, 2));
+        assertFalse(policy.shouldRetry(deadlock, 3));
+        assertFalse(policy.shouldRetry(new IllegalArgumentException(), 1));
+
+        assertTrue(RetryPolicy.isTransient(new RuntimeException(new SQLTransactionRollbackException())));
+        assertTrue(RetryPolicy.isTransient(new RuntimeException(new SQLException("lock timeout", "HYT00"))));
+        assertTrue(RetryPolicy.isTransient(new RuntimeException(new SQLException("deadlock", "40P01"))));
+        assertFalse(RetryPolicy.isTransient(new RuntimeException(new SQLException("syntax error", "42000"))));
+        assertFalse(RetryPolicy.isTransient(new RuntimeException(new SQLTransactionRollbackException("constraint violation", "40002"))));
+        assertFalse(RetryPolicy.isTransient(new QueryTimeoutException("q", Duration.ofSeconds(1), new SQLTransactionRollbackException())));
+    }
+
+}
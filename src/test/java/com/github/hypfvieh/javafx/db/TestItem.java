@@ -0,0 +1,49 @@
+package com.github.hypfvieh.javafx.db;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+
+/**
+ * Entity with a lazy reference used by database tests.
+ */
+@Entity
+@Table(name = "TEST_ITEM")
+public class TestItem {
+
+    @Id
+    private Long id;
+
+    @Column(name = "NAME", length = 100)
+    private String name;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "OWNER_ID")
+    private TestOwner owner;
+
+    public TestItem() {
+    }
+
+    public TestItem(long _id, String _name, TestOwner _owner) {
+        id = _id;
+        name = _name;
+        owner = _owner;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public TestOwner getOwner() {
+        return owner;
+    }
+
+}
@@ -0,0 +1,59 @@
+package com.github.hypfvieh.javafx.db;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.OrderBy;
+import jakarta.persistence.Table;
+
+/**
+ * Entity with a lazy collection used by database tests.
+ */
+@Entity
+@Table(name = "TEST_OWNER")
+public class TestOwner {
+
+    @Id
+    private Long id;
+
+    @Column(name = "NAME", length = 100)
+    private String name;
+
+    @OneToMany(mappedBy = "owner", fetch = FetchType.LAZY)
+    @OrderBy("id")
+    private List<TestItem> items = new ArrayList<>();
+
+    public TestOwner() {
+    }
+
+    public TestOwner(long _id, String _name) {
+        id = _id;
+        name = _name;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String _name) {
+        name = _name;
+    }
+
+    public List<TestItem> getItems() {
+        return items;
+    }
+
+    public void setItems(List<TestItem> _items) {
+        items = _items;
+    }
+
+}
@@ -0,0 +1,79 @@
+package com.github.hypfvieh.javafx.fx;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import javafx.application.Platform;
+import javafx.scene.Scene;
+import javafx.scene.layout.Region;
+import javafx.stage.Stage;
+
+class FxWindowUtilsTest {
+
+    @BeforeAll
+    static void beforeAll() {
+        try {
+            Platform.startup(() -> { });
+        } catch (IllegalStateException _ex) {
+            // already started
+        }
+    }
+
+    @Test
+    void testComputeSizeWithoutShowing() throws Exception {
+        double[] size = onFxThread(() -> FxWindowUtils.computeStageSize(createStage(300, 200), null));
+        assertArrayEquals(new double[] {300, 200}, size);
+    }
+
+    @Test
+    void testComputeExplicitSize() throws Exception {
+        double[] size = onFxThread(() -> {
+            Stage stage = createStage(300, 200);
+            stage.setWidth(640);
+            stage.setHeight(480);
+            return FxWindowUtils.computeStageSize(stage, null);
+        });
+        assertArrayEquals(new double[] {640, 480}, size);
+    }
+
+    @Test
+    void testComputeSizeWithOwnerDecorations() throws Exception {
+        double[][] sizes = onFxThread(() -> {
+            Stage owner = createStage(400, 300);
+            owner.show();
+            try {
+                double[] decorations = {owner.getWidth() - owner.getScene().getWidth(), owner.getHeight() - owner.getScene().getHeight()};
+                return new double[][] {decorations, FxWindowUtils.computeStageSize(createStage(300, 200), owner)};
+            } finally {
+                owner.hide();
+            }
+        });
+        assertArrayEquals(new double[] {300 + sizes[0][0], 200 + sizes[0][1]}, sizes[1]);
+    }
+
+    private static Stage createStage(double _prefWidth, double _prefHeight) {
+        Region root = new Region();
+        root.setPrefSize(_prefWidth, _prefHeight);
+        Stage stage = new Stage();
+        stage.setScene(new Scene(root));
+        return stage;
+    }
+
+    private static <T> T onFxThread(Callable<T> _callable) throws Exception {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        Platform.runLater(() -> {
+            try {
+                future.complete(_callable.call());
+            } catch (Exception _ex) {
+                future.completeExceptionally(_ex);
+            }
+        });
+        return future.get(10, TimeUnit.SECONDS);
+    }
+}
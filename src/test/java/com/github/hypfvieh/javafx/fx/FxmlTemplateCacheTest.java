@@ -0,0 +1,50 @@
+package com.github.hypfvieh.javafx.fx;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.hypfvieh.javafx.fx.FxmlTemplateCache.FxmlTemplate;
+
+import javafx.fxml.FXMLLoader;
+import javafx.scene.Group;
+
+class FxmlTemplateCacheTest {
+
+    private static final String FXML = "fxml/TemplateTest.fxml";
+
+    @AfterEach
+    void afterEach() {
+        FxmlTemplateCache.setEnabled(true);
+    }
+
+    @Test
+    void testTemplateReused() throws IOException {
+        FxmlTemplate template = FxmlTemplateCache.getTemplate(getClass(), FXML);
+        assertSame(template, FxmlTemplateCache.getTemplate(getClass(), FXML));
+
+        // every load creates a new scene graph
+        FXMLLoader firstLoader = template.createLoader();
+        Group first = template.load(firstLoader);
+        Group second = template.load(template.createLoader());
+        assertNotSame(first, second);
+        assertEquals(1, first.getChildren().size());
+        assertEquals(template.getUrl(), firstLoader.getLocation());
+        assertSame(firstLoader.getBuilderFactory(), template.createLoader().getBuilderFactory());
+
+        FxmlTemplateCache.setEnabled(false);
+        assertNotSame(template, FxmlTemplateCache.getTemplate(getClass(), FXML));
+    }
+
+    @Test
+    void testMissingFile() {
+        assertThrows(NullPointerException.class, () -> FxmlTemplateCache.getTemplate(getClass(), "fxml/Missing.fxml"));
+    }
+
+}
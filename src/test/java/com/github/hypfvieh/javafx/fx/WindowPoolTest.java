@@ -0,0 +1,171 @@
+package com.github.hypfvieh.javafx.fx;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.Closeable;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.hypfvieh.javafx.fx.FxWindowUtils.WindowOptions;
+import com.github.hypfvieh.javafx.fx.WindowPool.PoolKey;
+import com.github.hypfvieh.javafx.fx.WindowPool.PooledWindow;
+import com.github.hypfvieh.javafx.windows.interfaces.IReusableWindow;
+
+import javafx.application.Platform;
+import javafx.stage.Modality;
+import javafx.stage.Stage;
+
+class WindowPoolTest {
+
+    @AfterEach
+    void afterEach() {
+        WindowPool.clear();
+    }
+
+    @Test
+    void testPoolKeyEquality() {
+        PoolKey key = createKey("a.fxml", new WindowOptions().withWidth(100));
+
+        assertEquals(key, createKey("a.fxml", new WindowOptions().withWidth(100)));
+        assertEquals(key.hashCode(), createKey("a.fxml", new WindowOptions().withWidth(100)).hashCode());
+        // pool size is not relevant for creating the window
+        assertEquals(key, createKey("a.fxml", new WindowOptions().withWidth(100).withPoolSize(5)));
+
+        assertNotEquals(key, createKey("b.fxml", new WindowOptions().withWidth(100)));
+        assertNotEquals(key, createKey("a.fxml", new WindowOptions().withWidth(200)));
+        assertNotEquals(key, createKey("a.fxml", new WindowOptions().withWidth(100).withCssStyleSheets(List.of("x.css"))));
+        assertNotEquals(key, new PoolKey(getClass(), "a.fxml", null, Modality.APPLICATION_MODAL, null, new WindowOptions().withWidth(100)));
+        assertNotEquals(key, new PoolKey(getClass(), "a.fxml", null, Modality.NONE, c -> null, new WindowOptions().withWidth(100)));
+    }
+
+    @Test
+    void testAcquireAndRelease() {
+        PoolKey key = createKey("a.fxml", new WindowOptions());
+        PooledWindow window = createWindow(key, 2, new ReusableController());
+
+        assertTrue(WindowPool.release(window));
+
+        assertEquals(1, WindowPool.size(key));
+        assertEquals(1, ((ReusableController) window.getController()).resets);
+        assertSame(window, WindowPool.acquire(key));
+        assertNull(WindowPool.acquire(key));
+    }
+
+    @Test
+    void testInitializedOnlyOnce() {
+        PoolKey key = createKey("a.fxml", new WindowOptions());
+        PooledWindow window = createWindow(key, 2, new ReusableController());
+
+        assertTrue(window.markInitialized());
+        WindowPool.release(window);
+
+        assertFalse(WindowPool.acquire(key).markInitialized(), "Reused window must not be initialized again");
+    }
+
+    @Test
+    void testDiscardWhenPoolFull() {
+        PoolKey key = createKey("a.fxml", new WindowOptions());
+        ReusableController controller = new ReusableController();
+
+        WindowPool.release(createWindow(key, 1, new ReusableController()));
+        WindowPool.release(createWindow(key, 1, controller));
+
+        assertEquals(1, WindowPool.size(key));
+        assertTrue(controller.closed);
+        assertEquals(0, controller.resets);
+    }
+
+    @Test
+    void testDiscardWhenResetFails() {
+        PoolKey key = createKey("a.fxml", new WindowOptions());
+        ReusableController controller = new ReusableController();
+        controller.failReset = true;
+
+        assertFalse(WindowPool.release(createWindow(key, 1, controller)));
+
+        assertEquals(0, WindowPool.size(key));
+        assertTrue(controller.closed);
+    }
+
+    @Test
+    void testDiscardWhenOwnerNotShowing() throws Exception {
+        try {
+            Platform.startup(() -> { });
+        } catch (IllegalStateException _ex) {
+            // already started
+        }
+        CompletableFuture<Stage> ownerFuture = new CompletableFuture<>();
+        Platform.runLater(() -> ownerFuture.complete(new Stage()));
+        Stage owner = ownerFuture.get(10, TimeUnit.SECONDS);
+
+        PoolKey key = new PoolKey(getClass(), "a.fxml", owner, Modality.NONE, null, new WindowOptions());
+        ReusableController controller = new ReusableController();
+
+        assertFalse(WindowPool.release(createWindow(key, 2, controller)));
+
+        assertEquals(0, WindowPool.size(key));
+        assertTrue(controller.closed);
+        assertEquals(0, controller.resets);
+    }
+
+    @Test
+    void testDoubleReleaseIgnored() {
+        PoolKey key = createKey("a.fxml", new WindowOptions());
+        ReusableController controller = new ReusableController();
+        PooledWindow window = createWindow(key, 2, controller);
+
+        assertTrue(WindowPool.release(window));
+        assertFalse(WindowPool.release(window));
+
+        assertEquals(1, WindowPool.size(key));
+        assertEquals(1, controller.resets);
+        assertFalse(controller.closed);
+    }
+
+    @Test
+    void testNotPooledWindowIgnored() {
+        PoolKey key = createKey("a.fxml", new WindowOptions());
+        ReusableController controller = new ReusableController();
+
+        assertFalse(WindowPool.release(createWindow(null, 2, controller)));
+
+        assertEquals(0, WindowPool.size(key));
+        assertEquals(0, controller.resets);
+    }
+
+    private PoolKey createKey(String _fxmlFile, WindowOptions _options) {
+        return new PoolKey(getClass(), _fxmlFile, null, Modality.NONE, null, _options);
+    }
+
+    private static PooledWindow createWindow(PoolKey _key, int _maxPoolSize, Object _controller) {
+        return new PooledWindow(_key, _maxPoolSize, null, null, _controller);
+    }
+
+    static class ReusableController implements IReusableWindow, Closeable {
+        private int resets;
+        private boolean closed;
+        private boolean failReset;
+
+        @Override
+        public void resetForReuse() {
+            if (failReset) {
+                throw new IllegalStateException("Reset failed");
+            }
+            resets++;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
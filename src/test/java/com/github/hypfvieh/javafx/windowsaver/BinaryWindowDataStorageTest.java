@@ -0,0 +1,115 @@
+package com.github.hypfvieh.javafx.windowsaver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class BinaryWindowDataStorageTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testWriteAndRead() throws IOException {
+        BinaryWindowDataStorage store = new BinaryWindowDataStorage();
+        File file = tempDir.resolve("windows.bin").toFile();
+
+        WindowPosInfo window = new WindowPosInfo();
+        window.setHeight(1000);
+        window.setWidth(543);
+        window.setX(-1920);
+        window.setMaximized(true);
+        window.setTitle("T\u00e4st");
+        window.setOutputScaleX(1.25);
+        window.setOutputScaleY(1.25);
+
+        store.write(file, Map.of("Test", window, "Other", new WindowPosInfo()));
+
+        Map<String, WindowPosInfo> read = store.read(file);
+
+        assertEquals(2, read.size());
+        assertEquals(window, read.get("Test"));
+        assertEquals(new WindowPosInfo(), read.get("Other"));
+    }
+
+    @Test
+    void testUnknownFieldsIgnored() throws IOException {
+        ByteArrayOutputStream fields = new ByteArrayOutputStream();
+        DataOutputStream fieldOut = new DataOutputStream(fields);
+        fieldOut.writeByte(BinaryWindowDataStorage.Field.WIDTH.getTag());
+        fieldOut.writeByte(1);
+        fieldOut.writeInt(8);
+        fieldOut.writeDouble(640);
+        // field added by a future version
+        fieldOut.writeByte(100);
+        fieldOut.writeByte(3);
+        fieldOut.writeInt(8);
+        fieldOut.writeUTF("future");
+        // unknown value type
+        fieldOut.writeByte(101);
+        fieldOut.writeByte(42);
+        fieldOut.writeInt(12);
+        fieldOut.writeLong(0);
+        fieldOut.writeInt(0);
+        // known field with a type changed by a future version
+        fieldOut.writeByte(BinaryWindowDataStorage.Field.TITLE.getTag());
+        fieldOut.writeByte(1);
+        fieldOut.writeInt(8);
+        fieldOut.writeDouble(1);
+        fieldOut.writeByte(BinaryWindowDataStorage.Field.HEIGHT.getTag());
+        fieldOut.writeByte(1);
+        fieldOut.writeInt(8);
+        fieldOut.writeDouble(480);
+
+        Path path = tempDir.resolve("future.bin");
+        Files.write(path, createFile(BinaryWindowDataStorage.MAJOR_VERSION, 42, fields.toByteArray()));
+
+        WindowPosInfo read = new BinaryWindowDataStorage().read(path.toFile()).get("Test");
+        assertEquals(640, read.getWidth());
+        assertEquals(480, read.getHeight());
+        assertNull(read.getTitle());
+    }
+
+    @Test
+    void testUnsupportedMajorVersion() throws IOException {
+        Path path = tempDir.resolve("major.bin");
+        Files.write(path, createFile(BinaryWindowDataStorage.MAJOR_VERSION + 1, 0, new byte[0]));
+
+        assertThrows(IOException.class, () -> new BinaryWindowDataStorage().read(path.toFile()));
+    }
+
+    private static byte[] createFile(int _major, int _minor, byte[] _fields) throws IOException {
+        ByteArrayOutputStream file = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(file);
+        out.writeInt(0x4A465750);
+        out.writeByte(_major);
+        out.writeByte(_minor);
+        out.writeInt(1);
+        out.writeUTF("Test");
+        out.writeInt(_fields.length);
+        out.write(_fields);
+        return file.toByteArray();
+    }
+
+    @Test
+    void testInvalidFile() throws IOException {
+        Path path = tempDir.resolve("invalid.bin");
+        Files.writeString(path, "{ \"json\": true }");
+
+        assertThrows(IOException.class, () -> new BinaryWindowDataStorage().read(path.toFile()));
+        assertTrue(new BinaryWindowDataStorage().read(Files.createFile(tempDir.resolve("empty.bin")).toFile()).isEmpty());
+    }
+
+}
@@ -0,0 +1,98 @@
+package com.github.hypfvieh.javafx.windowsaver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class JournalWindowDataStorageTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testAppendAndRead() throws IOException {
+        JournalWindowDataStorage store = new JournalWindowDataStorage();
+        File file = tempDir.resolve("windows.journal").toFile();
+
+        Map<String, WindowPosInfo> data = new HashMap<>();
+        data.put("A", window(100));
+        data.put("B", window(200));
+        store.append(file, data, data.keySet());
+        long initialLength = file.length();
+
+        data.put("A", window(150));
+        data.remove("B");
+        store.append(file, data, Set.of("A", "B"));
+
+        assertTrue(file.length() > initialLength, "Changes should be appended");
+        assertEquals(data, store.read(file));
+        assertEquals(data, new JournalWindowDataStorage().read(file));
+    }
+
+    @Test
+    void testCompaction() throws IOException {
+        JournalWindowDataStorage store = new JournalWindowDataStorage(10);
+        File file = tempDir.resolve("compact.journal").toFile();
+
+        Map<String, WindowPosInfo> data = new HashMap<>();
+        data.put("A", window(1));
+        data.put("B", window(2));
+        store.append(file, data, data.keySet());
+        long compactLength = file.length();
+
+        long maxLength = 0;
+        for (int i = 0; i < 100; i++) {
+            data.put("A", window(i));
+            store.append(file, data, Set.of("A"));
+            maxLength = Math.max(maxLength, file.length());
+        }
+
+        assertTrue(maxLength < compactLength * 10, "Journal should have been compacted");
+        assertEquals(data, new JournalWindowDataStorage().read(file));
+        assertFalse(new File(tempDir.toFile(), "compact.journal.tmp").exists());
+    }
+
+    @Test
+    void testIncompleteRecordIgnored() throws IOException {
+        JournalWindowDataStorage store = new JournalWindowDataStorage();
+        File file = tempDir.resolve("broken.journal").toFile();
+
+        Map<String, WindowPosInfo> data = new HashMap<>();
+        data.put("A", window(100));
+        store.append(file, data, data.keySet());
+
+        // simulate crash while appending
+        try (OutputStream out = Files.newOutputStream(file.toPath(), StandardOpenOption.APPEND)) {
+            out.write(new byte[] {1, 0, 5, 'B'});
+        }
+
+        JournalWindowDataStorage other = new JournalWindowDataStorage();
+        assertEquals(data, other.read(file));
+
+        // incomplete data must not hide records appended later
+        data.put("C", window(300));
+        other.append(file, data, Set.of("C"));
+        assertEquals(data, new JournalWindowDataStorage().read(file));
+    }
+
+    private static WindowPosInfo window(double _width) {
+        WindowPosInfo info = new WindowPosInfo();
+        info.setWidth(_width);
+        info.setTitle("Window " + _width);
+        return info;
+    }
+
+}
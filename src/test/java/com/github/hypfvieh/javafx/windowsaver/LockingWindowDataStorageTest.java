@@ -0,0 +1,93 @@
+package com.github.hypfvieh.javafx.windowsaver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class LockingWindowDataStorageTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testMergeChanges() throws IOException {
+        File file = tempDir.resolve("windows.bin").toFile();
+        // simulate two processes which have read the file at the same time
+        LockingWindowDataStorage first = new LockingWindowDataStorage(new BinaryWindowDataStorage());
+        LockingWindowDataStorage second = new LockingWindowDataStorage(new BinaryWindowDataStorage());
+
+        Map<String, WindowPosInfo> initial = Map.of("A", window(1), "B", window(2));
+        first.write(file, initial);
+
+        Map<String, WindowPosInfo> firstData = new HashMap<>(first.read(file));
+        Map<String, WindowPosInfo> secondData = new HashMap<>(second.read(file));
+
+        firstData.put("C", window(3));
+        firstData.remove("A");
+        first.append(file, firstData, Set.of("C", "A"));
+
+        secondData.put("B", window(20));
+        second.append(file, secondData, Set.of("B"));
+
+        Map<String, WindowPosInfo> result = first.read(file);
+        assertEquals(2, result.size());
+        assertFalse(result.containsKey("A"));
+        assertEquals(window(20), result.get("B"));
+        assertEquals(window(3), result.get("C"));
+        assertTrue(LockingWindowDataStorage.getLockFile(file).exists());
+    }
+
+    @Test
+    void testConcurrentWriters() throws Exception {
+        File file = tempDir.resolve("concurrent.journal").toFile();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                String prefix = "Thread" + t + "-";
+                LockingWindowDataStorage storage = new LockingWindowDataStorage(new JournalWindowDataStorage());
+                futures.add(executor.submit(() -> {
+                    Map<String, WindowPosInfo> data = new HashMap<>();
+                    for (int i = 0; i < 25; i++) {
+                        data.put(prefix + i, window(i));
+                        try {
+                            storage.append(file, data, Set.of(prefix + i));
+                        } catch (IOException _ex) {
+                            throw new UncheckedIOException(_ex);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> f : futures) {
+                f.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(100, new JournalWindowDataStorage().read(file).size());
+    }
+
+    private static WindowPosInfo window(double _width) {
+        WindowPosInfo info = new WindowPosInfo();
+        info.setWidth(_width);
+        return info;
+    }
+
+}
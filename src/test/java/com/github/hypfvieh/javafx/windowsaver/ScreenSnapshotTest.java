@@ -0,0 +1,35 @@
+package com.github.hypfvieh.javafx.windowsaver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.hypfvieh.javafx.windowsaver.ScreenSnapshot.ScreenInfo;
+
+import javafx.geometry.Rectangle2D;
+
+class ScreenSnapshotTest {
+
+    @Test
+    void testBoundsAndScreenLookup() {
+        ScreenInfo left = new ScreenInfo(new Rectangle2D(-1280, 200, 1280, 720), new Rectangle2D(-1280, 200, 1280, 680), 1.5, 1.5);
+        ScreenInfo main = new ScreenInfo(new Rectangle2D(0, 0, 1920, 1080), new Rectangle2D(0, 0, 1920, 1040), 1, 1);
+
+        ScreenSnapshot snapshot = new ScreenSnapshot(List.of(left, main));
+
+        assertEquals(-1280, snapshot.getMinX());
+        assertEquals(0, snapshot.getMinY());
+        assertEquals(1920, snapshot.getMaxX());
+        assertEquals(1080, snapshot.getMaxY());
+
+        assertSame(left, snapshot.getScreenAt(-100, 300));
+        assertSame(main, snapshot.getScreenAt(100, 100));
+        // gap above the left screen
+        assertNull(snapshot.getScreenAt(-100, 100));
+    }
+
+}
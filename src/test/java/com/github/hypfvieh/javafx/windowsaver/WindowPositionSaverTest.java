@@ -0,0 +1,56 @@
+package com.github.hypfvieh.javafx.windowsaver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class WindowPositionSaverTest {
+
+    @TempDir
+    Path tempDir;
+
+    @AfterEach
+    void afterEach() {
+        WindowPositionSaver.setEnabled(false);
+        WindowPositionSaver.setStorageFolder(new File(System.getProperty("user.home"), ".javafx"));
+        WindowPositionSaver.setWriteDelay(Duration.ofMillis(500));
+    }
+
+    @Test
+    void testWriteBehind() throws IOException {
+        JacksonWithReflectionStorage storage = new JacksonWithReflectionStorage();
+        File dataFile = tempDir.resolve("windowPrefs.json").toFile();
+        storage.write(dataFile, Map.of("A", new WindowPosInfo(), "B", new WindowPosInfo()));
+
+        WindowPositionSaver.setDataStorageProvider(storage);
+        WindowPositionSaver.setStorageFolder(tempDir.toFile());
+        WindowPositionSaver.setWriteDelay(Duration.ofMinutes(1));
+        WindowPositionSaver.setEnabled(true);
+
+        assertEquals(2, WindowPositionSaver.getStoredData().size());
+
+        WindowPositionSaver.clearSavedWindowPreferences("A");
+
+        // change is only kept in memory until delay has passed
+        assertEquals(1, WindowPositionSaver.getStoredData().size());
+        assertEquals(2, storage.read(dataFile).size());
+
+        WindowPositionSaver.flush();
+
+        Map<String, WindowPosInfo> written = storage.read(dataFile);
+        assertEquals(1, written.size());
+        assertTrue(written.containsKey("B"));
+        assertFalse(new File(tempDir.toFile(), "windowPrefs.json.tmp").exists());
+    }
+
+}
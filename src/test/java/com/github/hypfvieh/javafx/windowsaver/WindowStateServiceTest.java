@@ -0,0 +1,144 @@
+package com.github.hypfvieh.javafx.windowsaver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.github.hypfvieh.javafx.windowsaver.ScreenSnapshot.ScreenInfo;
+
+import javafx.geometry.Rectangle2D;
+
+class WindowStateServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testIndependentInstances() throws IOException {
+        BinaryWindowDataStorage storage = new BinaryWindowDataStorage();
+        File folder = tempDir.resolve("module").toFile();
+
+        try (WindowStateService first = new WindowStateService(folder, "first");
+                WindowStateService second = new WindowStateService(folder, "second")) {
+            first.setDataStorageProvider(storage);
+            second.setDataStorageProvider(storage);
+            first.setWriteDelay(Duration.ofMinutes(1));
+            first.setEnabled(true);
+            second.setEnabled(true);
+
+            assertTrue(first.getStoredData().isEmpty());
+            assertFalse(folder.exists(), "Folder should only be created when data is written");
+
+            folder.mkdirs();
+            storage.write(new File(folder, "second.bin"), Map.of("A", new WindowPosInfo()));
+
+            assertTrue(first.getStoredData().isEmpty());
+            assertEquals(1, second.getStoredData().size());
+            assertFalse(WindowPositionSaver.isEnabled(), "Default service must not be affected");
+
+            second.clearSavedWindowPreferences("A");
+        }
+
+        // pending changes are written on close
+        assertTrue(storage.read(new File(folder, "second.bin")).isEmpty());
+        assertFalse(new File(folder, "first.bin").exists());
+    }
+
+    @Test
+    void testChangesKeptWhenWriteFails() throws IOException {
+        FailingJournalStorage storage = new FailingJournalStorage();
+        File folder = tempDir.toFile();
+        storage.write(new File(folder, "prefs.journal"), Map.of("A", new WindowPosInfo(), "B", new WindowPosInfo()));
+
+        try (WindowStateService service = new WindowStateService(folder, "prefs")) {
+            service.setDataStorageProvider(storage);
+            service.setWriteDelay(Duration.ofMinutes(1));
+            service.setEnabled(true);
+
+            service.clearSavedWindowPreferences("A");
+            storage.fail = true;
+            service.flush();
+
+            storage.fail = false;
+            service.clearSavedWindowPreferences("B");
+            service.flush();
+        }
+
+        assertTrue(storage.read(new File(folder, "prefs.journal")).isEmpty(), "Change of failed write must be written later");
+    }
+
+    @Test
+    void testReloadChangesOfOtherProcess() throws IOException {
+        BinaryWindowDataStorage storage = new BinaryWindowDataStorage();
+        File folder = tempDir.toFile();
+        storage.write(new File(folder, "prefs.bin"), Map.of("A", new WindowPosInfo(), "B", new WindowPosInfo(), "C", new WindowPosInfo()));
+
+        try (WindowStateService first = new WindowStateService(folder, "prefs");
+                WindowStateService second = new WindowStateService(folder, "prefs")) {
+            for (WindowStateService service : Set.of(first, second)) {
+                service.setDataStorageProvider(storage);
+                service.setMultiProcessSafe(true);
+                service.setWriteDelay(Duration.ofMinutes(1));
+                service.setEnabled(true);
+                assertEquals(3, service.getStoredData().size());
+            }
+
+            second.clearSavedWindowPreferences("C");
+            first.clearSavedWindowPreferences("A");
+            first.flush();
+
+            // change of first is visible, unsaved change of second is kept
+            assertEquals(Set.of("B"), second.getStoredData().keySet());
+
+            second.flush();
+        }
+
+        assertEquals(Set.of("B"), storage.read(new File(folder, "prefs.bin")).keySet());
+    }
+
+    @Test
+    void testFitToChangedScreenScale() {
+        WindowPosInfo posInfo = new WindowPosInfo();
+        posInfo.setX(2020);
+        posInfo.setY(200);
+        posInfo.setWidth(1200);
+        posInfo.setHeight(900);
+        posInfo.setOutputScaleX(1);
+        posInfo.setOutputScaleY(1);
+
+        ScreenInfo sameScale = new ScreenInfo(new Rectangle2D(1920, 0, 2560, 1440), new Rectangle2D(1920, 0, 2560, 1400), 1, 1);
+        assertEquals(new Rectangle2D(2020, 200, 1200, 900), WindowStateService.fitToScreen(posInfo, sameScale));
+
+        // scaling changed from 100% to 200%, keep physical size and offset
+        ScreenInfo scaled = new ScreenInfo(new Rectangle2D(1920, 0, 1280, 720), new Rectangle2D(1920, 0, 1280, 700), 2, 2);
+        assertEquals(new Rectangle2D(1970, 100, 600, 450), WindowStateService.fitToScreen(posInfo, scaled));
+
+        // size saved without scale, only limited to screen size
+        posInfo.setOutputScaleX(0);
+        posInfo.setOutputScaleY(0);
+        assertEquals(new Rectangle2D(2020, 200, 1200, 700), WindowStateService.fitToScreen(posInfo, scaled));
+    }
+
+    static class FailingJournalStorage extends JournalWindowDataStorage {
+        private volatile boolean fail;
+
+        @Override
+        public synchronized void append(File _file, Map<String, WindowPosInfo> _data, Set<String> _changedKeys) throws IOException {
+            if (fail) {
+                throw new IOException("Disk full");
+            }
+            super.append(_file, _data, _changedKeys);
+        }
+    }
+
+}